@@ -0,0 +1,241 @@
+package com.ecommerce.application.analytics;
+
+import com.ecommerce.domain.event.OrderPlacedEvent;
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.RollupGranularity;
+import com.ecommerce.domain.model.SalesDimension;
+import com.ecommerce.domain.model.SalesRollup;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.domain.port.SalesRollupStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Units and revenue per category and per membership tier in tumbling hourly and daily
+ * windows, updated as each order is placed instead of aggregated from the orders tables
+ * on request. A query reads only the windows in its range.
+ *
+ * <p>Every {@code flush-ms} the increments recorded since the last flush are added to the
+ * {@link SalesRollupStore}, and the windows still in retention are reloaded from it with
+ * this node's unflushed increments on top. Several nodes can therefore share the store:
+ * each one's totals include the others' orders as of their last flush. A crash loses at
+ * most one interval of increments. Windows older than their retention are not held in
+ * memory; the store keeps them. An item counts toward each of its product's categories;
+ * items whose product is gone count toward the tier only.
+ */
+@Slf4j
+@Component
+public class SalesRollups {
+    private static final String UNKNOWN_TIER = "UNKNOWN";
+
+    private final ProductRepository productRepository;
+    private final SalesRollupStore store;
+    private final Map<RollupGranularity, Duration> retention = new EnumMap<>(RollupGranularity.class);
+    private final Counter orders;
+
+    private final Map<Series, NavigableMap<LocalDateTime, Map<String, Totals>>> series = new ConcurrentHashMap<>();
+    private final Map<Cell, Totals> pending = new ConcurrentHashMap<>();
+    /** Held shared while recording and exclusively while swapping in reloaded windows. */
+    private final ReadWriteLock reloadLock = new ReentrantReadWriteLock();
+
+    public SalesRollups(ProductRepository productRepository,
+                        SalesRollupStore store,
+                        MeterRegistry meterRegistry,
+                        @Value("${catalog.analytics.hourly-retention-hours}") long hourlyRetentionHours,
+                        @Value("${catalog.analytics.daily-retention-days}") long dailyRetentionDays) {
+        this.productRepository = productRepository;
+        this.store = store;
+        this.retention.put(RollupGranularity.HOUR, Duration.ofHours(hourlyRetentionHours));
+        this.retention.put(RollupGranularity.DAY, Duration.ofDays(dailyRetentionDays));
+        this.orders = meterRegistry.counter("catalog.analytics.orders");
+        meterRegistry.gauge("catalog.analytics.pending_cells", pending, Map::size);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(event.getOrder());
+    }
+
+    public void record(Order order) {
+        if (order.getOrderDate() == null || order.getOrderItems() == null || order.getOrderItems().isEmpty()) {
+            return;
+        }
+        Map<Long, Set<Long>> categoriesByProduct = categoriesOf(order.getOrderItems());
+        String tier = order.getCustomer() != null && order.getCustomer().getMembershipTier() != null
+                ? order.getCustomer().getMembershipTier().name() : UNKNOWN_TIER;
+        reloadLock.readLock().lock();
+        try {
+            record(order.getOrderItems(), order.getOrderDate(), tier, categoriesByProduct);
+        } finally {
+            reloadLock.readLock().unlock();
+        }
+        orders.increment();
+    }
+
+    private void record(List<OrderItem> items, LocalDateTime orderDate, String tier,
+                        Map<Long, Set<Long>> categoriesByProduct) {
+        for (OrderItem item : items) {
+            if (item.getQuantity() == null || item.getPriceAtPurchase() == null) {
+                continue;
+            }
+            Totals totals = new Totals(item.getQuantity(),
+                    item.getPriceAtPurchase().multiply(BigDecimal.valueOf(item.getQuantity())));
+            Set<Long> categories = item.getProduct() != null
+                    ? categoriesByProduct.getOrDefault(item.getProduct().getId(), Set.of()) : Set.of();
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                LocalDateTime window = granularity.windowStart(orderDate);
+                add(new Series(granularity, SalesDimension.MEMBERSHIP_TIER), window, tier, totals);
+                for (Long categoryId : categories) {
+                    add(new Series(granularity, SalesDimension.CATEGORY), window, categoryId.toString(), totals);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rollups of the windows starting in {@code [from, to)}, by window start then key.
+     */
+    public List<SalesRollup> query(RollupGranularity granularity, SalesDimension dimension,
+                                   LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, Map<String, Totals>> windows = series.get(new Series(granularity, dimension));
+        if (windows == null || !from.isBefore(to)) {
+            return List.of();
+        }
+        List<SalesRollup> rollups = new ArrayList<>();
+        for (Map.Entry<LocalDateTime, Map<String, Totals>> window : windows.subMap(from, true, to, false).entrySet()) {
+            new TreeMap<>(window.getValue()).forEach((key, totals) ->
+                    rollups.add(rollup(new Cell(new Series(granularity, dimension), window.getKey(), key), totals)));
+        }
+        return rollups;
+    }
+
+    /**
+     * Adds the increments recorded since the last flush to the store, then reloads the
+     * windows in retention from it.
+     */
+    @Scheduled(fixedDelayString = "${catalog.analytics.flush-ms}", initialDelayString = "${catalog.analytics.flush-ms}")
+    public void flush() {
+        Map<Cell, Totals> flushed = new HashMap<>();
+        for (Cell cell : new ArrayList<>(pending.keySet())) {
+            // Taken out atomically, so an increment racing with the flush starts a new delta
+            Totals increment = pending.remove(cell);
+            if (increment != null) {
+                flushed.put(cell, increment);
+            }
+        }
+        if (!flushed.isEmpty()) {
+            List<SalesRollup> increments = flushed.entrySet().stream()
+                    .map(entry -> rollup(entry.getKey(), entry.getValue()))
+                    .toList();
+            try {
+                store.addAll(increments);
+            } catch (RuntimeException e) {
+                flushed.forEach((cell, increment) -> pending.merge(cell, increment, Totals::plus));
+                log.warn("Writing {} sales rollups failed; retrying on the next flush", increments.size(), e);
+                return;
+            }
+        }
+        reload();
+    }
+
+    /**
+     * Replaces the windows held in memory with the stored windows still in retention plus
+     * the increments not written yet. Called at startup and after every flush.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Series, NavigableMap<LocalDateTime, Map<String, Totals>>> reloaded = new HashMap<>();
+        int stored = 0;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            for (SalesRollup rollup : store.findSince(granularity,
+                    granularity.windowStart(now.minus(retention.get(granularity))))) {
+                merge(reloaded, new Cell(new Series(granularity, rollup.getDimension()), rollup.getWindowStart(),
+                        rollup.getKey()), new Totals(rollup.getUnits(), rollup.getRevenue()));
+                stored++;
+            }
+        }
+        reloadLock.writeLock().lock();
+        try {
+            // Unflushed increments are not in the store yet; none can be added while this lock is held
+            pending.forEach((cell, increment) -> merge(reloaded, cell, increment));
+            series.keySet().retainAll(reloaded.keySet());
+            series.putAll(reloaded);
+        } finally {
+            reloadLock.writeLock().unlock();
+        }
+        log.debug("Reloaded {} stored sales rollups", stored);
+    }
+
+    private static void merge(Map<Series, NavigableMap<LocalDateTime, Map<String, Totals>>> windows,
+                              Cell cell, Totals totals) {
+        windows.computeIfAbsent(cell.series(), key -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(cell.windowStart(), window -> new ConcurrentHashMap<>())
+                .merge(cell.key(), totals, Totals::plus);
+    }
+
+    private Map<Long, Set<Long>> categoriesOf(List<OrderItem> items) {
+        List<Long> productIds = items.stream()
+                .map(OrderItem::getProduct)
+                .filter(Objects::nonNull)
+                .map(Product::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product.getCategories() == null ? Set.of()
+                        : product.getCategories().stream().map(Category::getId).collect(Collectors.toSet())));
+    }
+
+    private void add(Series key, LocalDateTime window, String dimensionKey, Totals totals) {
+        Cell cell = new Cell(key, window, dimensionKey);
+        merge(series, cell, totals);
+        pending.merge(cell, totals, Totals::plus);
+    }
+
+    private static SalesRollup rollup(Cell cell, Totals totals) {
+        return SalesRollup.builder()
+                .granularity(cell.series().granularity())
+                .dimension(cell.series().dimension())
+                .key(cell.key())
+                .windowStart(cell.windowStart())
+                .units(totals.units())
+                .revenue(totals.revenue())
+                .build();
+    }
+
+    private record Series(RollupGranularity granularity, SalesDimension dimension) {
+    }
+
+    private record Cell(Series series, LocalDateTime windowStart, String key) {
+    }
+
+    private record Totals(long units, BigDecimal revenue) {
+        Totals plus(Totals other) {
+            return new Totals(units + other.units, revenue.add(other.revenue));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.application.cache;
+
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.port.InvalidationTransport;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identity of this instance on the {@link InvalidationTransport}. Every subscriber on a
+ * node shares it, so each can skip the messages the node published itself.
+ */
+@Component
+public class CatalogNode {
+    private final String id = UUID.randomUUID().toString();
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean published(CacheInvalidationMessage message) {
+        return id.equals(message.getOriginNodeId());
+    }
+}
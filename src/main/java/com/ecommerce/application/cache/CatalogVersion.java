@@ -0,0 +1,43 @@
+package com.ecommerce.application.cache;
+
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.event.ProductsRemovedEvent;
+import com.ecommerce.domain.port.InvalidationTransport;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter that moves whenever product data may have changed on this or another node.
+ * Anything derived from the whole catalog can be keyed by it.
+ */
+@Component
+public class CatalogVersion {
+    private final InvalidationTransport transport;
+    private final AtomicLong version = new AtomicLong();
+
+    public CatalogVersion(InvalidationTransport transport) {
+        this.transport = transport;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        transport.subscribe(message -> version.incrementAndGet());
+    }
+
+    public long get() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsRemoved(ProductsRemovedEvent event) {
+        version.incrementAndGet();
+    }
+}
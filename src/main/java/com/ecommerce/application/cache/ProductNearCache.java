@@ -0,0 +1,180 @@
+package com.ecommerce.application.cache;
+
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.event.ProductsRemovedEvent;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.InvalidationTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Node-local cache of products and catalog query results. Local writes evict
+ * immediately and are broadcast to the other nodes over the {@link InvalidationTransport}.
+ * Entries also expire after {@code ttl}, which bounds staleness when a message is lost.
+ * Products and queries are each capped; when full, expired entries are swept and a new
+ * key is loaded without being cached if none had expired. Missing products are not
+ * cached, so lookups of unknown ids cannot fill the cache.
+ *
+ * <p>Reported meters: hits and misses, the age of served entries and the delay between
+ * a remote write and its invalidation arriving here.
+ */
+@Slf4j
+@Component
+public class ProductNearCache {
+    private final InvalidationTransport transport;
+    private final CatalogNode node;
+    private final long ttlNanos;
+
+    private final Region<Long, Optional<Product>> products;
+    private final Region<String, List<Product>> queries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer servedAge;
+    private final Timer invalidationLag;
+
+    public ProductNearCache(InvalidationTransport transport,
+                            CatalogNode node,
+                            MeterRegistry meterRegistry,
+                            @Value("${catalog.near-cache.ttl-ms}") long ttlMillis,
+                            @Value("${catalog.near-cache.max-products}") int maxProducts,
+                            @Value("${catalog.near-cache.max-queries}") int maxQueries) {
+        this.transport = transport;
+        this.node = node;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.products = new Region<>(maxProducts);
+        this.queries = new Region<>(maxQueries);
+        this.hits = meterRegistry.counter("catalog.near_cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("catalog.near_cache.requests", "result", "miss");
+        this.servedAge = meterRegistry.timer("catalog.near_cache.served_age");
+        this.invalidationLag = meterRegistry.timer("catalog.near_cache.invalidation_lag");
+        meterRegistry.gauge("catalog.near_cache.staleness_bound_seconds", Tags.empty(), this,
+                cache -> cache.ttlNanos / 1e9);
+        meterRegistry.gaugeMapSize("catalog.near_cache.size", Tags.empty(), products.entries);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        transport.subscribe(this::onInvalidation);
+    }
+
+    public Optional<Product> getProduct(Long id, Function<Long, Optional<Product>> loader) {
+        return lookup(products, id, () -> loader.apply(id), Optional::isPresent);
+    }
+
+    public List<Product> getQuery(String key, Supplier<List<Product>> loader) {
+        return lookup(queries, key, () -> List.copyOf(loader.get()), result -> true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.getProductId());
+        transport.publish(new CacheInvalidationMessage(node.getId(), event.getProductId(), System.currentTimeMillis()));
+    }
+
+    /**
+     * Drops everything here and on the other nodes: one broadcast for the whole batch
+     * instead of one per product.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsRemoved(ProductsRemovedEvent event) {
+        evict(null);
+        transport.publish(new CacheInvalidationMessage(node.getId(), null, System.currentTimeMillis()));
+    }
+
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (node.published(message)) {
+            return;
+        }
+        invalidationLag.record(Math.max(0, System.currentTimeMillis() - message.getPublishedAtEpochMilli()),
+                TimeUnit.MILLISECONDS);
+        evict(message.getProductId());
+        log.debug("Near-cache invalidated product {} from node {}", message.getProductId(), message.getOriginNodeId());
+    }
+
+    private void evict(Long productId) {
+        generation.incrementAndGet();
+        if (productId == null) {
+            products.entries.clear();
+        } else {
+            products.entries.remove(productId);
+        }
+        queries.entries.clear();
+    }
+
+    private <K, V> V lookup(Region<K, V> region, K key, Supplier<V> loader, Predicate<V> cacheable) {
+        Map<K, Entry<V>> cache = region.entries;
+        long now = System.nanoTime();
+        Entry<V> entry = cache.get(key);
+        if (entry != null && now - entry.loadedAt < ttlNanos) {
+            hits.increment();
+            servedAge.record(now - entry.loadedAt, TimeUnit.NANOSECONDS);
+            return entry.value;
+        }
+        misses.increment();
+        long loadedIn = generation.get();
+        V value = loader.get();
+        if (cacheable.test(value) && region.admits(key, now) && generation.get() == loadedIn) {
+            Entry<V> loaded = new Entry<>(value, now);
+            cache.put(key, loaded);
+            if (generation.get() != loadedIn) {
+                cache.remove(key, loaded);
+            }
+        }
+        return value;
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    private final class Region<K, V> {
+        private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+        private final int capacity;
+        /** No entry expires before this, so a full region is not swept again until then. */
+        private volatile long sweepAfter = System.nanoTime();
+
+        private Region(int capacity) {
+            this.capacity = capacity;
+        }
+
+        boolean admits(K key, long now) {
+            if (entries.size() < capacity || entries.containsKey(key)) {
+                return true;
+            }
+            if (now - sweepAfter < 0) {
+                return false;
+            }
+            long oldest = now;
+            for (Iterator<Entry<V>> it = entries.values().iterator(); it.hasNext(); ) {
+                long loadedAt = it.next().loadedAt;
+                if (now - loadedAt >= ttlNanos) {
+                    it.remove();
+                } else if (loadedAt - oldest < 0) {
+                    oldest = loadedAt;
+                }
+            }
+            sweepAfter = oldest + ttlNanos;
+            return entries.size() < capacity;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.application.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution: concurrent calls with the same key share one invocation of
+ * the loader. The first caller runs it on its own thread; later callers wait up to
+ * {@code timeout} for its result or rethrow its exception. Nothing is kept once the
+ * call completes; caching is left to the caller.
+ */
+@Component
+public class QueryCoalescer {
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public QueryCoalescer(MeterRegistry meterRegistry,
+                          @Value("${catalog.coalescing.timeout-ms}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.leaders = meterRegistry.counter("catalog.coalescing.calls", "role", "leader");
+        this.followers = meterRegistry.counter("catalog.coalescing.calls", "role", "follower");
+        this.timeouts = meterRegistry.counter("catalog.coalescing.timeouts");
+        meterRegistry.gauge("catalog.coalescing.ratio", Tags.empty(), this, QueryCoalescer::getCoalescingRatio);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            followers.increment();
+            return (T) await(key, existing);
+        }
+        leaders.increment();
+        try {
+            T result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Share of calls answered by another caller's in-flight query.
+     */
+    public double getCoalescingRatio() {
+        double total = leaders.count() + followers.count();
+        return total == 0 ? 0 : followers.count() / total;
+    }
+
+    private Object await(String key, CompletableFuture<Object> call) {
+        try {
+            return call.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new QueryCoalescingTimeoutException(key, timeoutMillis);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for in-flight query " + key, e);
+        }
+    }
+}
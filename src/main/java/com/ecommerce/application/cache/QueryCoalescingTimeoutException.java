@@ -0,0 +1,7 @@
+package com.ecommerce.application.cache;
+
+public class QueryCoalescingTimeoutException extends RuntimeException {
+    public QueryCoalescingTimeoutException(String key, long timeoutMillis) {
+        super("Gave up after " + timeoutMillis + " ms waiting for in-flight query " + key);
+    }
+}
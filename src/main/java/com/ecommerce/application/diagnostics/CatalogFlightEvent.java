@@ -0,0 +1,114 @@
+package com.ecommerce.application.diagnostics;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Fields and begin/end handling shared by the catalog's Flight Recorder events. The events
+ * are disabled unless a recording enables them (see {@code jfr/catalog.jfc}); while disabled,
+ * {@link #isEnabled()} is a constant check and nothing below it runs.
+ *
+ * <pre>
+ * RepositoryCallEvent event = RepositoryCallEvent.begin("jpa", "findAll", null);
+ * return event.end(loadProducts());
+ * </pre>
+ */
+@Enabled(false)
+@StackTrace(false)
+public abstract class CatalogFlightEvent extends Event {
+    private static final int MAX_ARGUMENTS_LENGTH = 80;
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    @Label("Component")
+    public String component;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Arguments")
+    public String arguments;
+
+    @Label("Rows")
+    @Description("Elements returned, or 1/0 for a single optional result")
+    public int rows;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the calling thread between begin and end")
+    @DataAmount
+    public long allocated;
+
+    /**
+     * Records the result's row count and commits if the event passed its threshold.
+     * Returns {@code result} unchanged so the call site can return through it.
+     */
+    public <T> T end(T result) {
+        if (isEnabled()) {
+            end();
+            if (shouldCommit()) {
+                rows = rowsOf(result);
+                allocated = allocatedBytes() - allocated;
+                commit();
+            }
+        }
+        return result;
+    }
+
+    protected <E extends CatalogFlightEvent> E prepare(String component, String operation, Object arguments) {
+        if (isEnabled()) {
+            this.component = component;
+            this.operation = operation;
+            this.arguments = summarize(arguments);
+            this.allocated = allocatedBytes();
+            begin();
+        }
+        @SuppressWarnings("unchecked")
+        E self = (E) this;
+        return self;
+    }
+
+    static String summarize(Object arguments) {
+        if (arguments == null) {
+            return "";
+        }
+        if (arguments instanceof Collection<?> collection) {
+            return collection.size() + " items";
+        }
+        String text = String.valueOf(arguments);
+        return text.length() > MAX_ARGUMENTS_LENGTH ? text.substring(0, MAX_ARGUMENTS_LENGTH) + "..." : text;
+    }
+
+    private static int rowsOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return result != null ? 1 : 0;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean counter && counter.isThreadAllocatedMemorySupported()) {
+            return counter;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.application.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.ecommerce.CatalogOperation")
+@Label("Catalog Operation")
+@Category({"E-commerce", "Catalog"})
+@Description("A CatalogBrowsingService operation")
+public class CatalogOperationEvent extends CatalogFlightEvent {
+
+    public static CatalogOperationEvent begin(String component, String operation, Object arguments) {
+        return new CatalogOperationEvent().prepare(component, operation, arguments);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.application.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.ecommerce.Mapping")
+@Label("Mapping")
+@Category({"E-commerce", "Mapping"})
+@Description("A conversion between persistence entities and domain objects")
+public class MappingEvent extends CatalogFlightEvent {
+
+    public static MappingEvent begin(String component, String operation, Object arguments) {
+        return new MappingEvent().prepare(component, operation, arguments);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.application.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.ecommerce.RepositoryCall")
+@Label("Repository Call")
+@Category({"E-commerce", "Persistence"})
+@Description("A ProductRepository adapter call")
+public class RepositoryCallEvent extends CatalogFlightEvent {
+
+    public static RepositoryCallEvent begin(String component, String operation, Object arguments) {
+        return new RepositoryCallEvent().prepare(component, operation, arguments);
+    }
+}
@@ -0,0 +1,264 @@
+package com.ecommerce.application.recommendation;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sparse, symmetric count of how often two products were bought in the same order. Rows
+ * live in an open-addressing table keyed by primitive product id, and each row holds its
+ * neighbours in parallel {@code long}/{@code int} arrays, so nothing is boxed.
+ *
+ * <p>A row keeps at most {@code neighboursPerProduct} neighbours. When a full row meets a
+ * new neighbour, its weakest entry gives way if it was only seen once; otherwise that
+ * entry's count is decremented and the newcomer dropped. One-off pairs churn through the
+ * weakest slots while repeated pairs stay, and a neighbour that stops being bought
+ * together decays until it is replaced.
+ */
+public class CoOccurrenceMatrix {
+    /**
+     * Orders with more distinct products only count the lowest ids, bounding the quadratic
+     * pair update.
+     */
+    static final int MAX_ORDER_PRODUCTS = 100;
+    private static final int INITIAL_ROW_CAPACITY = 4;
+
+    private final int neighboursPerProduct;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] keys = new long[16];
+    private Row[] rows = new Row[16];
+    private int size;
+
+    public CoOccurrenceMatrix(int neighboursPerProduct) {
+        this.neighboursPerProduct = neighboursPerProduct;
+    }
+
+    /**
+     * Counts every pair of distinct products in one order.
+     */
+    public void addOrder(long[] productIds) {
+        long[] products = distinct(productIds);
+        if (products.length < 2) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < products.length; i++) {
+                Row row = rowFor(products[i]);
+                for (int j = 0; j < products.length; j++) {
+                    if (i != j) {
+                        row.increment(products[j], neighboursPerProduct);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} products most often bought with {@code productId}, most frequent
+     * first, ties by id.
+     */
+    public long[] related(long productId, int limit) {
+        lock.readLock().lock();
+        try {
+            int slot = find(productId);
+            return slot < 0 || limit <= 0 ? new long[0] : rows[slot].top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the product's row and its entry in the rows of its neighbours.
+     */
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            int slot = find(productId);
+            if (slot < 0) {
+                return;
+            }
+            Row removed = rows[slot];
+            delete(slot);
+            for (int i = 0; i < removed.size; i++) {
+                int neighbour = find(removed.neighbours[i]);
+                if (neighbour >= 0) {
+                    rows[neighbour].remove(productId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int products() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Row rowFor(long productId) {
+        int slot = find(productId);
+        if (slot >= 0) {
+            return rows[slot];
+        }
+        if (2 * (size + 1) > keys.length) {
+            resize();
+        }
+        slot = ~find(productId);
+        keys[slot] = productId;
+        rows[slot] = new Row(Math.min(INITIAL_ROW_CAPACITY, neighboursPerProduct));
+        size++;
+        return rows[slot];
+    }
+
+    /**
+     * Slot of the product, or the bitwise complement of the empty slot ending its probe.
+     */
+    private int find(long productId) {
+        int mask = keys.length - 1;
+        for (int slot = hash(productId) & mask; ; slot = (slot + 1) & mask) {
+            if (rows[slot] == null) {
+                return ~slot;
+            }
+            if (keys[slot] == productId) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Linear-probing deletion: shifts later entries of the probe run back into the gap
+     * instead of leaving tombstones.
+     */
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        rows[gap] = null;
+        size--;
+        for (int next = (gap + 1) & mask; rows[next] != null; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                rows[gap] = rows[next];
+                rows[next] = null;
+                gap = next;
+            }
+        }
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Row[] oldRows = rows;
+        keys = new long[oldKeys.length * 2];
+        rows = new Row[oldRows.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldRows[i] != null) {
+                int slot = ~find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                rows[slot] = oldRows[i];
+            }
+        }
+    }
+
+    private static long[] distinct(long[] productIds) {
+        long[] sorted = productIds.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length && count < MAX_ORDER_PRODUCTS; i++) {
+            if (count == 0 || sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Row {
+        private long[] neighbours;
+        private int[] counts;
+        private int size;
+
+        Row(int capacity) {
+            neighbours = new long[capacity];
+            counts = new int[capacity];
+        }
+
+        void increment(long neighbour, int maxNeighbours) {
+            for (int i = 0; i < size; i++) {
+                if (neighbours[i] == neighbour) {
+                    counts[i]++;
+                    return;
+                }
+            }
+            if (size == neighbours.length && size < maxNeighbours) {
+                int capacity = Math.min(size * 2, maxNeighbours);
+                neighbours = Arrays.copyOf(neighbours, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+            }
+            if (size < neighbours.length) {
+                neighbours[size] = neighbour;
+                counts[size++] = 1;
+                return;
+            }
+            int weakest = 0;
+            for (int i = 1; i < size; i++) {
+                if (counts[i] < counts[weakest]) {
+                    weakest = i;
+                }
+            }
+            if (counts[weakest] == 1) {
+                neighbours[weakest] = neighbour;
+            } else {
+                counts[weakest]--;
+            }
+        }
+
+        void remove(long neighbour) {
+            for (int i = 0; i < size; i++) {
+                if (neighbours[i] == neighbour) {
+                    size--;
+                    neighbours[i] = neighbours[size];
+                    counts[i] = counts[size];
+                    return;
+                }
+            }
+        }
+
+        long[] top(int limit) {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            // Rows are small: insertion sort by count descending, then id ascending
+            for (int i = 1; i < size; i++) {
+                int current = order[i];
+                int j = i - 1;
+                while (j >= 0 && ranksBefore(current, order[j])) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = current;
+            }
+            long[] top = new long[Math.min(limit, size)];
+            for (int i = 0; i < top.length; i++) {
+                top[i] = neighbours[order[i]];
+            }
+            return top;
+        }
+
+        private boolean ranksBefore(int a, int b) {
+            return counts[a] > counts[b] || counts[a] == counts[b] && neighbours[a] < neighbours[b];
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.ecommerce.application.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Character trie over normalized keys where every node keeps the best-scored entries of
+ * its subtree, so a completion is a walk down the prefix plus a copy of at most
+ * {@code suggestionsPerNode} entries. Keys are only expanded to {@code maxDepth}
+ * characters; longer prefixes are answered by filtering the keys stored at that depth.
+ */
+public class PrefixIndex {
+    private static final Comparator<Entry> BY_SCORE = Comparator
+            .comparingDouble((Entry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.text)
+            .thenComparingLong(entry -> entry.id);
+
+    private final int suggestionsPerNode;
+    private final int maxDepth;
+    private final Node root = new Node();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PrefixIndex(int suggestionsPerNode, int maxDepth) {
+        this.suggestionsPerNode = suggestionsPerNode;
+        this.maxDepth = maxDepth;
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public static final class Entry {
+        private final String text;
+        private final Suggestion.Type type;
+        private final long id;
+        private double score;
+
+        public Entry(String text, Suggestion.Type type, long id, double score) {
+            this.text = text;
+            this.type = type;
+            this.id = id;
+            this.score = score;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        private Suggestion toSuggestion() {
+            return new Suggestion(text, type, id, score);
+        }
+    }
+
+    public void add(Collection<String> keys, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            keys.forEach(key -> insert(normalize(key), entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Collection<String> keys, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            keys.forEach(key -> delete(normalize(key), entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rescore(Collection<String> keys, Entry entry, double score) {
+        lock.writeLock().lock();
+        try {
+            keys.forEach(key -> delete(normalize(key), entry));
+            entry.score = score;
+            keys.forEach(key -> insert(normalize(key), entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> complete(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = Math.min(normalized.length(), maxDepth);
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.child(normalized.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            if (normalized.length() <= maxDepth) {
+                List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, node.top.length));
+                for (int i = 0; i < node.top.length && i < limit; i++) {
+                    suggestions.add(node.top[i].toSuggestion());
+                }
+                return suggestions;
+            }
+            return Arrays.stream(node.terminals)
+                    .filter(terminal -> terminal.key.startsWith(normalized))
+                    .map(terminal -> terminal.entry)
+                    .distinct()
+                    .sorted(BY_SCORE)
+                    .limit(limit)
+                    .map(Entry::toSuggestion)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String key, Entry entry) {
+        if (key.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        int depth = Math.min(key.length(), maxDepth);
+        for (int i = 0; i < depth; i++) {
+            node = node.childOrCreate(key.charAt(i));
+            offer(node, entry);
+        }
+        node.addTerminal(new Terminal(key, entry));
+    }
+
+    private void delete(String key, Entry entry) {
+        if (key.isEmpty()) {
+            return;
+        }
+        int depth = Math.min(key.length(), maxDepth);
+        Node[] path = new Node[depth + 1];
+        path[0] = root;
+        for (int i = 0; i < depth; i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        if (!path[depth].removeTerminal(key, entry)) {
+            return;
+        }
+        for (int i = depth; i > 0; i--) {
+            Node node = path[i];
+            if (node.isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            } else if (node.topContains(entry)) {
+                recompute(node);
+            }
+        }
+    }
+
+    private void offer(Node node, Entry entry) {
+        Entry[] top = node.top;
+        for (Entry existing : top) {
+            if (existing == entry) {
+                Arrays.sort(top, BY_SCORE);
+                return;
+            }
+        }
+        if (top.length < suggestionsPerNode) {
+            top = Arrays.copyOf(top, top.length + 1);
+        } else if (BY_SCORE.compare(entry, top[top.length - 1]) >= 0) {
+            return;
+        }
+        top[top.length - 1] = entry;
+        Arrays.sort(top, BY_SCORE);
+        node.top = top;
+    }
+
+    private void recompute(Node node) {
+        Set<Entry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Terminal terminal : node.terminals) {
+            candidates.add(terminal.entry);
+        }
+        for (Node child : node.children) {
+            Collections.addAll(candidates, child.top);
+        }
+        node.top = candidates.stream()
+                .sorted(BY_SCORE)
+                .limit(suggestionsPerNode)
+                .toArray(Entry[]::new);
+    }
+
+    private record Terminal(String key, Entry entry) {
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+        private static final Terminal[] NO_TERMINALS = new Terminal[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] top = NO_ENTRIES;
+        private Terminal[] terminals = NO_TERMINALS;
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        private void addTerminal(Terminal terminal) {
+            terminals = Arrays.copyOf(terminals, terminals.length + 1);
+            terminals[terminals.length - 1] = terminal;
+        }
+
+        private boolean removeTerminal(String key, Entry entry) {
+            for (int i = 0; i < terminals.length; i++) {
+                if (terminals[i].entry == entry && terminals[i].key.equals(key)) {
+                    Terminal[] remaining = new Terminal[terminals.length - 1];
+                    System.arraycopy(terminals, 0, remaining, 0, i);
+                    System.arraycopy(terminals, i + 1, remaining, i, terminals.length - i - 1);
+                    terminals = remaining;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean topContains(Entry entry) {
+            for (Entry candidate : top) {
+                if (candidate == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isEmpty() {
+            return terminals.length == 0 && children.length == 0;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.ecommerce.application.search;
+
+import com.ecommerce.application.cache.CatalogNode;
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.event.ProductsRemovedEvent;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.domain.port.InvalidationTransport;
+import com.ecommerce.domain.port.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index over the terms of active product names and descriptions, with a
+ * {@link BkTree} over the term dictionary for typo-tolerant lookups.
+ *
+ * <p>Results are ranked with BM25F: per-field term frequencies are length-normalized,
+ * weighted by the field boost and summed before saturation, so a term in the name
+ * outweighs the same term in the description. Document frequencies and field lengths
+ * are maintained incrementally alongside the postings.
+ *
+ * <p>Local writes arrive as product events; writes on other nodes as invalidations on the
+ * {@link InvalidationTransport}, after which the product is re-read from the repository
+ * with {@link ProductRepository#findCurrentById}, since a replica may not have the write yet.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+    private static final Comparator<ScoredId> BY_SCORE = Comparator
+            .comparingDouble(ScoredId::score)
+            .thenComparing(ScoredId::id, Comparator.reverseOrder());
+    private static final Comparator<ScoredPosition> BY_SCORE_THEN_POSITION = Comparator
+            .comparingDouble(ScoredPosition::score)
+            .thenComparing(ScoredPosition::position, Comparator.reverseOrder());
+
+    private final ProductRepository productRepository;
+    private final InvalidationTransport transport;
+    private final CatalogNode node;
+    private final double nameBoost;
+    private final double descriptionBoost;
+    private final double k1;
+    private final double b;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private BkTree dictionary = new BkTree();
+    private long totalNameLength;
+    private long totalDescriptionLength;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              InvalidationTransport transport,
+                              CatalogNode node,
+                              @Value("${catalog.search.name-boost}") double nameBoost,
+                              @Value("${catalog.search.description-boost}") double descriptionBoost,
+                              @Value("${catalog.search.bm25.k1}") double k1,
+                              @Value("${catalog.search.bm25.b}") double b) {
+        this.productRepository = productRepository;
+        this.transport = transport;
+        this.node = node;
+        this.nameBoost = nameBoost;
+        this.descriptionBoost = descriptionBoost;
+        this.k1 = k1;
+        this.b = b;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        transport.subscribe(this::onInvalidation);
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Edits tolerated for a query token: none up to 2 characters, one up to 5, two beyond.
+     */
+    static int maxEdits(String token) {
+        if (token.length() <= 2) {
+            return 0;
+        }
+        return token.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Ids of the {@code limit} best-scoring products where every keyword token matches an
+     * indexed term within {@link #maxEdits} of it, best first ({@link SearchMode#FUZZY}).
+     * A term's contribution is divided by one plus its distance from the token.
+     */
+    public List<Long> rank(String keyword, int limit) {
+        List<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = scoreToken(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return top(scores.entrySet().stream().map(score -> new ScoredId(score.getKey(), score.getValue())),
+                    limit, BY_SCORE).stream().map(ScoredId::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The first {@code limit} of {@code ids} ordered by relevance to {@code keyword}, best
+     * first ({@link SearchMode#EXACT}). A product scores the terms of its own fields that
+     * start with a keyword token; products that score nothing (matched elsewhere, or not
+     * indexed yet) follow in their given order. Only {@code limit} ids are held at a time.
+     */
+    public List<Long> order(String keyword, List<Long> ids, int limit) {
+        List<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty() || ids.size() < 2) {
+            return ids.subList(0, Math.min(ids.size(), Math.max(limit, 0)));
+        }
+        lock.readLock().lock();
+        try {
+            return top(IntStream.range(0, ids.size()).mapToObj(position -> {
+                IndexedDocument document = documents.get(ids.get(position));
+                return new ScoredPosition(position, document != null ? score(document, tokens) : 0);
+            }), limit, BY_SCORE_THEN_POSITION).stream().map(scored -> ids.get(scored.position())).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double score(IndexedDocument document, List<String> tokens) {
+        double score = 0;
+        for (String token : tokens) {
+            double best = 0;
+            for (String term : document.terms()) {
+                if (term.startsWith(token)) {
+                    best = Math.max(best, idf(postings.get(term).size()) * saturate(document, term));
+                }
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private Map<Long, Double> scoreToken(String token) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Double> expansion : expand(token).entrySet()) {
+            String term = expansion.getKey();
+            Set<Long> ids = postings.get(term);
+            if (ids == null) {
+                continue;
+            }
+            double idf = idf(ids.size());
+            for (Long id : ids) {
+                double score = expansion.getValue() * idf * saturate(documents.get(id), term);
+                scores.merge(id, score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private Map<String, Double> expand(String token) {
+        Map<String, Double> terms = new HashMap<>();
+        for (String term : dictionary.search(token, maxEdits(token))) {
+            terms.put(term, 1.0 / (1 + BkTree.distance(token, term)));
+        }
+        return terms;
+    }
+
+    private double saturate(IndexedDocument document, String term) {
+        double averageName = Math.max(1.0, (double) totalNameLength / documents.size());
+        double averageDescription = Math.max(1.0, (double) totalDescriptionLength / documents.size());
+        double weighted =
+                nameBoost * document.nameFrequencies.getOrDefault(term, 0)
+                        / (1 - b + b * document.nameLength / averageName)
+                + descriptionBoost * document.descriptionFrequencies.getOrDefault(term, 0)
+                        / (1 - b + b * document.descriptionLength / averageDescription);
+        return weighted * (k1 + 1) / (weighted + k1);
+    }
+
+    /**
+     * The {@code limit} greatest candidates by {@code order}, greatest first, selected with
+     * a min-heap of at most {@code limit} entries.
+     */
+    private static <T> List<T> top(Stream<T> candidates, int limit, Comparator<T> order) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<T> heap = new PriorityQueue<>(order);
+        candidates.forEach(candidate -> {
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        });
+        List<T> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuild(productRepository.findAll());
+    }
+
+    private void rebuild(List<Product> products) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            dictionary = new BkTree();
+            totalNameLength = 0;
+            totalDescriptionLength = 0;
+            products.forEach(this::index);
+            log.info("Search index built with {} terms for {} products", postings.size(), documents.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        reindex(event.getProductId(), event.isDeleted() ? null : event.getProduct());
+    }
+
+    /**
+     * A write on another node: the product is re-read, or the index rebuilt when the
+     * message covers the whole catalog.
+     */
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (node.published(message)) {
+            return;
+        }
+        if (message.getProductId() == null) {
+            rebuild(productRepository.findAllCurrent());
+        } else {
+            reindex(message.getProductId(), productRepository.findCurrentById(message.getProductId()).orElse(null));
+        }
+    }
+
+    private void reindex(Long productId, Product product) {
+        lock.writeLock().lock();
+        try {
+            unindex(productId);
+            if (product != null) {
+                index(product);
+            }
+            if (dictionary.size() > 2 * Math.max(postings.size(), 64)) {
+                dictionary = new BkTree();
+                postings.keySet().forEach(dictionary::add);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsRemoved(ProductsRemovedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getProductIds().forEach(this::unindex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Product product) {
+        if (product.getStatus() != ProductStatus.ACTIVE) {
+            return;
+        }
+        List<String> nameTokens = tokenize(product.getName());
+        List<String> descriptionTokens = tokenize(product.getDescription());
+        IndexedDocument document = new IndexedDocument(frequencies(nameTokens), nameTokens.size(),
+                frequencies(descriptionTokens), descriptionTokens.size());
+        for (String term : document.terms()) {
+            postings.computeIfAbsent(term, t -> {
+                dictionary.add(t);
+                return new HashSet<>();
+            }).add(product.getId());
+        }
+        documents.put(product.getId(), document);
+        totalNameLength += document.nameLength;
+        totalDescriptionLength += document.descriptionLength;
+    }
+
+    private void unindex(Long productId) {
+        IndexedDocument document = documents.remove(productId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Set<Long> ids = postings.get(term);
+            ids.remove(productId);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalNameLength -= document.nameLength;
+        totalDescriptionLength -= document.descriptionLength;
+    }
+
+    private static Map<String, Integer> frequencies(List<String> tokens) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private record IndexedDocument(Map<String, Integer> nameFrequencies, int nameLength,
+                                   Map<String, Integer> descriptionFrequencies, int descriptionLength) {
+        Set<String> terms() {
+            Set<String> terms = new HashSet<>(nameFrequencies.keySet());
+            terms.addAll(descriptionFrequencies.keySet());
+            return terms;
+        }
+    }
+
+    private record ScoredId(Long id, double score) {
+    }
+
+    private record ScoredPosition(int position, double score) {
+    }
+}
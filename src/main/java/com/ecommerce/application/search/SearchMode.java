@@ -0,0 +1,13 @@
+package com.ecommerce.application.search;
+
+public enum SearchMode {
+    /**
+     * Case-insensitive substring match on name or description, ordered by relevance
+     */
+    EXACT,
+
+    /**
+     * Every keyword matches an indexed term within a bounded edit distance (opt-in)
+     */
+    FUZZY
+}
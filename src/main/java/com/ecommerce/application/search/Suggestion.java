@@ -0,0 +1,18 @@
+package com.ecommerce.application.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+    public enum Type {
+        PRODUCT,
+        CATEGORY
+    }
+
+    private final String text;
+    private final Type type;
+    private final Long id;
+    private final double score;
+}
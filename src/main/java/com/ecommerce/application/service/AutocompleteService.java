@@ -0,0 +1,202 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.cache.CatalogNode;
+import com.ecommerce.application.search.PrefixIndex;
+import com.ecommerce.application.search.Suggestion;
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.event.ProductsRemovedEvent;
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.domain.port.InvalidationTransport;
+import com.ecommerce.domain.port.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Typeahead completions over active product names and category names. Products are
+ * ranked by recorded views and categories by their number of active products. Writes on
+ * other nodes arrive as invalidations on the {@link InvalidationTransport}.
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+    private final ProductRepository productRepository;
+    private final InvalidationTransport transport;
+    private final CatalogNode node;
+    private final PrefixIndex index;
+    private final int maxSuggestions;
+
+    private final Map<Long, IndexedProduct> products = new HashMap<>();
+    private final Map<Long, IndexedCategory> categories = new HashMap<>();
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public AutocompleteService(ProductRepository productRepository,
+                               InvalidationTransport transport,
+                               CatalogNode node,
+                               @Value("${catalog.autocomplete.suggestions-per-node}") int suggestionsPerNode,
+                               @Value("${catalog.autocomplete.max-prefix-depth}") int maxPrefixDepth) {
+        this.productRepository = productRepository;
+        this.transport = transport;
+        this.node = node;
+        this.index = new PrefixIndex(suggestionsPerNode, maxPrefixDepth);
+        this.maxSuggestions = suggestionsPerNode;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        transport.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * The most suggestions {@link #complete} can return: each trie node only keeps this many.
+     */
+    public int getMaxSuggestions() {
+        return maxSuggestions;
+    }
+
+    public List<Suggestion> complete(String prefix, int limit) {
+        return index.complete(prefix, limit);
+    }
+
+    public void recordView(Long productId) {
+        pendingViews.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        rebuild(productRepository.findAll());
+    }
+
+    private void rebuild(List<Product> catalog) {
+        Map<Long, Double> views = new HashMap<>();
+        new ArrayList<>(products.keySet()).forEach(id -> views.put(id, unindexProduct(id)));
+        catalog.forEach(product -> indexProduct(product, views.getOrDefault(product.getId(), 0.0)));
+        log.info("Autocomplete index built for {} products and {} categories", products.size(), categories.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        double views = unindexProduct(event.getProductId());
+        if (!event.isDeleted()) {
+            indexProduct(event.getProduct(), views);
+        }
+    }
+
+    /**
+     * Re-reads a product written on another node, keeping its recorded views. A message
+     * without a product id rebuilds everything. Both bypass replicas that may not have
+     * the write yet.
+     */
+    synchronized void onInvalidation(CacheInvalidationMessage message) {
+        if (node.published(message)) {
+            return;
+        }
+        if (message.getProductId() == null) {
+            rebuild(productRepository.findAllCurrent());
+            return;
+        }
+        double views = unindexProduct(message.getProductId());
+        productRepository.findCurrentById(message.getProductId()).ifPresent(product -> indexProduct(product, views));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductsRemoved(ProductsRemovedEvent event) {
+        event.getProductIds().forEach(this::unindexProduct);
+    }
+
+    /**
+     * Adders stay in the map and are drained with {@code sumThenReset}, so a view recorded
+     * while this runs is counted in the next flush. Only adders of products that are no
+     * longer indexed are dropped.
+     */
+    @Scheduled(fixedDelayString = "${catalog.autocomplete.popularity-flush-ms}")
+    public synchronized void applyPendingViews() {
+        for (Iterator<Map.Entry<Long, LongAdder>> it = pendingViews.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, LongAdder> pending = it.next();
+            IndexedProduct product = products.get(pending.getKey());
+            if (product == null) {
+                it.remove();
+                continue;
+            }
+            long views = pending.getValue().sumThenReset();
+            if (views > 0) {
+                index.rescore(product.keys, product.entry, product.entry.getScore() + views);
+            }
+        }
+    }
+
+    private void indexProduct(Product product, double views) {
+        if (product.getStatus() != ProductStatus.ACTIVE || product.getName() == null) {
+            return;
+        }
+        IndexedProduct indexed = new IndexedProduct(
+                new PrefixIndex.Entry(product.getName(), Suggestion.Type.PRODUCT, product.getId(), views),
+                wordStartKeys(product.getName()),
+                product.getCategories() != null ? new ArrayList<>(product.getCategories()) : List.of());
+        index.add(indexed.keys, indexed.entry);
+        products.put(product.getId(), indexed);
+        indexed.categories.forEach(category -> adjustCategory(category, 1));
+    }
+
+    private double unindexProduct(Long productId) {
+        IndexedProduct indexed = products.remove(productId);
+        if (indexed == null) {
+            return 0;
+        }
+        index.remove(indexed.keys, indexed.entry);
+        indexed.categories.forEach(category -> adjustCategory(category, -1));
+        return indexed.entry.getScore();
+    }
+
+    private void adjustCategory(Category category, int delta) {
+        IndexedCategory indexed = categories.get(category.getId());
+        if (indexed == null) {
+            if (delta <= 0 || category.getName() == null) {
+                return;
+            }
+            indexed = new IndexedCategory(
+                    new PrefixIndex.Entry(category.getName(), Suggestion.Type.CATEGORY, category.getId(), 0),
+                    wordStartKeys(category.getName()));
+            categories.put(category.getId(), indexed);
+            index.add(indexed.keys, indexed.entry);
+        }
+        double productCount = indexed.entry.getScore() + delta;
+        if (productCount <= 0) {
+            index.remove(indexed.keys, indexed.entry);
+            categories.remove(category.getId());
+        } else {
+            index.rescore(indexed.keys, indexed.entry, productCount);
+        }
+    }
+
+    /**
+     * "Wireless Headphones" is reachable as "wireless headphones" and as "headphones".
+     */
+    private static List<String> wordStartKeys(String text) {
+        String normalized = PrefixIndex.normalize(text);
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private record IndexedProduct(PrefixIndex.Entry entry, List<String> keys, List<Category> categories) {
+    }
+
+    private record IndexedCategory(PrefixIndex.Entry entry, List<String> keys) {
+    }
+}
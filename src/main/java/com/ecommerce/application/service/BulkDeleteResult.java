@@ -0,0 +1,8 @@
+package com.ecommerce.application.service;
+
+/**
+ * Outcome of a bulk delete: how many products the selection matched and how many were
+ * actually discontinued ({@code hard == false}) or purged.
+ */
+public record BulkDeleteResult(int matched, int affected, boolean hard) {
+}
@@ -1,5 +1,10 @@
 package com.ecommerce.application.service;
 
+import com.ecommerce.application.cache.ProductNearCache;
+import com.ecommerce.application.cache.QueryCoalescer;
+import com.ecommerce.application.diagnostics.CatalogOperationEvent;
+import com.ecommerce.application.search.ProductSearchIndex;
+import com.ecommerce.application.search.SearchMode;
 import com.ecommerce.domain.model.Product;
 import com.ecommerce.domain.model.ProductStatus;
 import com.ecommerce.domain.port.ProductRepository;
@@ -8,65 +13,145 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class CatalogBrowsingService {
+    private static final String COMPONENT = "CatalogBrowsingService";
+
     private final ProductRepository productRepository;
+    private final ProductSearchIndex searchIndex;
+    private final ProductNearCache nearCache;
+    private final QueryCoalescer coalescer;
 
-    public CatalogBrowsingService(ProductRepository productRepository) {
+    public CatalogBrowsingService(ProductRepository productRepository,
+                                  ProductSearchIndex searchIndex,
+                                  ProductNearCache nearCache,
+                                  QueryCoalescer coalescer) {
         this.productRepository = productRepository;
+        this.searchIndex = searchIndex;
+        this.nearCache = nearCache;
+        this.coalescer = coalescer;
     }
 
     public List<Product> getAllActiveProducts() {
-        return productRepository.findAll().stream()
+        CatalogOperationEvent event = CatalogOperationEvent.begin(COMPONENT, "getAllActiveProducts", null);
+        return event.end(query("active", () -> productRepository.findAll().stream()
                 .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList())));
     }
 
     public List<Product> getProductsByCategory(Long categoryId) {
-        return productRepository.findByCategoryId(categoryId).stream()
+        CatalogOperationEvent event = CatalogOperationEvent.begin(COMPONENT, "getProductsByCategory", categoryId);
+        return event.end(query("active-category:" + categoryId, () -> productRepository.findByCategoryId(categoryId).stream()
                 .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList())));
+    }
+
+    /**
+     * One page of matches ordered by relevance. {@link SearchMode#EXACT} matches the keyword
+     * as a case-insensitive substring of name or description in the repository, by id, and
+     * only uses the search index to select the best matches up to the page.
+     * {@link SearchMode#FUZZY} matches against the index. Either way only the products on
+     * the requested page are loaded. Pages are cached
+     * and coalesced like the other catalog queries.
+     */
+    public List<Product> searchProducts(String keyword, SearchMode mode, int page, int size) {
+        CatalogOperationEvent event = CatalogOperationEvent.begin(COMPONENT,
+                mode == SearchMode.FUZZY ? "searchRankedFuzzy" : "searchRankedExact", keyword);
+        if (page < 0 || size <= 0) {
+            return event.end(List.of());
+        }
+        long offset = (long) page * size;
+        String key = "active-search:" + mode + ":" + page + ":" + size + ":" + normalize(keyword);
+        return event.end(query(key, () -> mode == SearchMode.FUZZY
+                ? searchFuzzy(keyword, offset, size)
+                : searchExact(keyword, offset, size)));
+    }
+
+    private List<Product> searchExact(String keyword, long offset, int size) {
+        List<Long> matches = productRepository.findIdsByNameOrDescriptionContaining(keyword, ProductStatus.ACTIVE);
+        if (matches.size() <= offset) {
+            return List.of();
+        }
+        List<Long> ranked = searchIndex.order(keyword, matches, (int) Math.min(Integer.MAX_VALUE, offset + size));
+        return loadActive(ranked.subList((int) offset, ranked.size()));
+    }
+
+    private List<Product> searchFuzzy(String keyword, long offset, int size) {
+        List<Long> ranked = searchIndex.rank(keyword, (int) Math.min(Integer.MAX_VALUE, offset + size));
+        if (ranked.size() <= offset) {
+            return List.of();
+        }
+        return loadActive(ranked.subList((int) offset, ranked.size()));
     }
 
-    public List<Product> searchProducts(String keyword) {
-        return productRepository.findByNameOrDescriptionContaining(keyword).stream()
+    /**
+     * The active products among {@code ids}, in the order of {@code ids}.
+     */
+    private List<Product> loadActive(List<Long> ids) {
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
                 .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
     public List<Product> searchProductsByName(String name) {
-        return productRepository.findByNameContaining(name).stream()
+        CatalogOperationEvent event = CatalogOperationEvent.begin(COMPONENT, "searchProductsByName", name);
+        return event.end(productRepository.findByNameContaining(name).stream()
                 .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public List<Product> searchProductsByDescription(String description) {
-        return productRepository.findByDescriptionContaining(description).stream()
+        CatalogOperationEvent event = CatalogOperationEvent.begin(COMPONENT, "searchProductsByDescription", description);
+        return event.end(productRepository.findByDescriptionContaining(description).stream()
                 .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public List<Product> sortProductsByPriceAsc(List<Product> products) {
-        return products.stream()
+        CatalogOperationEvent event = CatalogOperationEvent.begin(COMPONENT, "sortProductsByPriceAsc", products);
+        return event.end(products.stream()
                 .sorted(Comparator.comparing(Product::getCurrentPrice))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public List<Product> sortProductsByPriceDesc(List<Product> products) {
-        return products.stream()
+        CatalogOperationEvent event = CatalogOperationEvent.begin(COMPONENT, "sortProductsByPriceDesc", products);
+        return event.end(products.stream()
                 .sorted(Comparator.comparing(Product::getCurrentPrice).reversed())
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public List<Product> filterByPriceRange(List<Product> products, BigDecimal minPrice, BigDecimal maxPrice) {
-        return products.stream()
+        CatalogOperationEvent event = CatalogOperationEvent.begin(COMPONENT, "filterByPriceRange", products);
+        return event.end(products.stream()
                 .filter(product -> {
                     BigDecimal price = product.getCurrentPrice();
                     return (minPrice == null || price.compareTo(minPrice) >= 0) &&
                            (maxPrice == null || price.compareTo(maxPrice) <= 0);
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Cached per node; on a miss, concurrent callers with the same key share one repository call.
+     * Repository matching is case-insensitive, so keys are too.
+     */
+    private List<Product> query(String key, Supplier<List<Product>> loader) {
+        return nearCache.getQuery(key, () -> coalescer.execute(key, loader));
+    }
+
+    private static String normalize(String keyword) {
+        return Objects.toString(keyword, "").toLowerCase(Locale.ROOT);
     }
-} 
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Purges products that have been discontinued for longer than the retention period.
+ * Runs on the {@code catalog.compaction.cron} schedule (off-peak by default; {@code -}
+ * disables it) and deletes in batches of {@code batch-size}, each in its own
+ * transaction, pausing between batches and stopping after {@code max-batches} so a
+ * large backlog is spread over several runs instead of holding locks for minutes.
+ */
+@Slf4j
+@Component
+public class DiscontinuedProductCompactor {
+    private final ProductManagementService productService;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMillis;
+    private final Counter purged;
+
+    public DiscontinuedProductCompactor(ProductManagementService productService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${catalog.compaction.retention-hours}") long retentionHours,
+                                        @Value("${catalog.compaction.batch-size}") int batchSize,
+                                        @Value("${catalog.compaction.max-batches}") int maxBatches,
+                                        @Value("${catalog.compaction.pause-ms}") long pauseMillis) {
+        this.productService = productService;
+        this.retention = Duration.ofHours(retentionHours);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMillis = pauseMillis;
+        this.purged = meterRegistry.counter("catalog.compaction.purged");
+    }
+
+    @Scheduled(cron = "${catalog.compaction.cron}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = productService.purgeDiscontinued(cutoff, batchSize);
+            total += deleted;
+            purged.increment(deleted);
+            if (deleted < batchSize) {
+                break;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} products discontinued before {}", total, cutoff);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.domain.event.OrderPlacedEvent;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderCursor;
+import com.ecommerce.domain.model.OrderHistoryPage;
+import com.ecommerce.domain.model.OrderStatus;
+import com.ecommerce.domain.port.OrderHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class OrderService {
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Stores the order, dated now and {@code PENDING} unless set, and announces it with an
+     * {@link OrderPlacedEvent}.
+     */
+    @Transactional
+    public Order placeOrder(Order order) {
+        if (order.getOrderDate() == null) {
+            order.setOrderDate(LocalDateTime.now());
+        }
+        if (order.getStatus() == null) {
+            order.setStatus(OrderStatus.PENDING);
+        }
+        Order saved = orderHistoryRepository.save(order);
+        // The store keeps only the customer id; listeners need the tier the order was placed at
+        saved.setCustomer(order.getCustomer());
+        eventPublisher.publishEvent(new OrderPlacedEvent(saved));
+        return saved;
+    }
+
+    public OrderHistoryPage getOrderHistory(Long customerId, OrderCursor before, int limit) {
+        return orderHistoryRepository.findRecent(customerId, before, limit);
+    }
+}
@@ -1,24 +1,44 @@
 package com.ecommerce.application.service;
 
+import com.ecommerce.application.cache.ProductNearCache;
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.event.ProductsRemovedEvent;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSelection;
 import com.ecommerce.domain.port.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductManagementService {
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductNearCache nearCache;
 
-    public ProductManagementService(ProductRepository productRepository) {
+    public ProductManagementService(ProductRepository productRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    ProductNearCache nearCache) {
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.nearCache = nearCache;
     }
 
     @Transactional
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
+        return saved;
     }
 
     @Transactional
@@ -26,29 +46,103 @@ public class ProductManagementService {
         Optional<Product> existingProduct = productRepository.findById(id);
         if (existingProduct.isPresent()) {
             product.setId(id);
-            return productRepository.save(product);
+            Product saved = productRepository.save(product);
+            eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
+            return saved;
         }
         throw new RuntimeException("Product not found with id: " + id);
     }
 
+    /**
+     * Applies {@code patch} to the stored product; only the fields it changes are written.
+     * The id cannot be changed.
+     */
+    @Transactional
+    public Product patchProduct(Long id, UnaryOperator<Product> patch) {
+        Product saved = productRepository.update(id, product -> {
+                    Product patched = patch.apply(product);
+                    patched.setId(id);
+                    return patched;
+                })
+                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
+        return saved;
+    }
+
     @Transactional
     public void deleteProduct(Long id) {
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+    }
+
+    /**
+     * Deletes the selected products with set-based statements. By default they are only
+     * discontinued and left for the {@link DiscontinuedProductCompactor} to purge; with
+     * {@code hard} they and their category links are deleted right away.
+     */
+    @Transactional
+    public BulkDeleteResult deleteProducts(ProductSelection selection, boolean hard) {
+        List<Long> ids;
+        if (selection.hasIds()) {
+            ids = List.copyOf(new LinkedHashSet<>(selection.getIds()));
+        } else if (selection.hasCriteria()) {
+            ids = productRepository.findIds(selection);
+        } else {
+            throw new IllegalArgumentException("Bulk delete needs ids or at least one criterion");
+        }
+        if (ids.isEmpty()) {
+            return new BulkDeleteResult(0, 0, hard);
+        }
+        int affected = hard ? productRepository.deleteAllById(ids) : productRepository.discontinueAll(ids);
+        eventPublisher.publishEvent(new ProductsRemovedEvent(ids));
+        return new BulkDeleteResult(ids.size(), affected, hard);
     }
 
+    /**
+     * Physically deletes up to {@code limit} products discontinued before {@code cutoff},
+     * oldest first. Returns the number deleted.
+     */
+    @Transactional
+    public int purgeDiscontinued(LocalDateTime cutoff, int limit) {
+        List<Long> ids = productRepository.findDiscontinuedIds(cutoff, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = productRepository.deleteAllById(ids);
+        eventPublisher.publishEvent(new ProductsRemovedEvent(ids));
+        return deleted;
+    }
+
+    @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
-        return productRepository.findAll();
+        return nearCache.getQuery("all", productRepository::findAll);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Product> getProductById(Long id) {
-        return productRepository.findById(id);
+        return nearCache.getProduct(id, productRepository::findById);
+    }
+
+    /**
+     * The products among {@code ids} that exist, in the order of {@code ids}, loaded with
+     * one query.
+     */
+    @Transactional(readOnly = true)
+    public List<Product> getProductsById(List<Long> ids) {
+        return nearCache.getQuery("all-ids:" + ids, () -> {
+            Map<Long, Product> found = productRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+        });
     }
 
+    @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(Long categoryId) {
-        return productRepository.findByCategoryId(categoryId);
+        return nearCache.getQuery("all-category:" + categoryId, () -> productRepository.findByCategoryId(categoryId));
     }
 
+    @Transactional(readOnly = true)
     public List<Product> searchProducts(String name) {
-        return productRepository.findByNameContaining(name);
+        return nearCache.getQuery("all-name:" + name, () -> productRepository.findByNameContaining(name));
     }
 } 
@@ -0,0 +1,81 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.recommendation.CoOccurrenceMatrix;
+import com.ecommerce.domain.event.OrderPlacedEvent;
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.event.ProductsRemovedEvent;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * "Customers also bought": products most often ordered together with a given one, learnt
+ * from orders as they are placed. Related products are read through the product near-cache
+ * and only active ones are returned.
+ */
+@Service
+public class RecommendationService {
+    private final ProductManagementService productService;
+    private final CoOccurrenceMatrix matrix;
+    private final int neighboursPerProduct;
+
+    public RecommendationService(ProductManagementService productService,
+                                 @Value("${catalog.recommendations.neighbours-per-product}") int neighboursPerProduct) {
+        this.productService = productService;
+        this.neighboursPerProduct = neighboursPerProduct;
+        this.matrix = new CoOccurrenceMatrix(neighboursPerProduct);
+    }
+
+    /**
+     * The most related products {@link #getRelatedProducts} can return: the matrix only
+     * keeps this many neighbours per product.
+     */
+    public int getNeighboursPerProduct() {
+        return neighboursPerProduct;
+    }
+
+    public List<Product> getRelatedProducts(Long productId, int limit) {
+        List<Long> neighbours = Arrays.stream(matrix.related(productId, neighboursPerProduct)).boxed().toList();
+        if (neighbours.isEmpty()) {
+            return List.of();
+        }
+        return productService.getProductsById(neighbours).stream()
+                .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
+                .limit(limit)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        List<OrderItem> items = event.getOrder().getOrderItems();
+        if (items == null) {
+            return;
+        }
+        matrix.addOrder(items.stream()
+                .map(OrderItem::getProduct)
+                .filter(Objects::nonNull)
+                .map(Product::getId)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .toArray());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            matrix.remove(event.getProductId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsRemoved(ProductsRemovedEvent event) {
+        event.getProductIds().forEach(matrix::remove);
+    }
+}
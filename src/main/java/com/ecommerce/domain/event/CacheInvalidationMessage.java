@@ -0,0 +1,16 @@
+package com.ecommerce.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Tells other nodes to drop cached catalog data. A {@code null} product id
+ * invalidates everything.
+ */
+@Getter
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+    private final String originNodeId;
+    private final Long productId;
+    private final long publishedAtEpochMilli;
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.domain.event;
+
+import com.ecommerce.domain.model.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An order was stored. Its customer carries the membership tier the order was placed at.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderPlacedEvent {
+    private final Order order;
+}
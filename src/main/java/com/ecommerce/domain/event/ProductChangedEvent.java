@@ -0,0 +1,22 @@
+package com.ecommerce.domain.event;
+
+import com.ecommerce.domain.model.Product;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductChangedEvent {
+    private final Long productId;
+    private final Product product;
+    private final boolean deleted;
+
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(product.getId(), product, false);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, null, true);
+    }
+}
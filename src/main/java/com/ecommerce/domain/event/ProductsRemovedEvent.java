@@ -0,0 +1,16 @@
+package com.ecommerce.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Products taken off the catalog by a bulk operation, either discontinued or purged.
+ * Published once per operation rather than as one {@link ProductChangedEvent} per product.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductsRemovedEvent {
+    private final List<Long> productIds;
+}
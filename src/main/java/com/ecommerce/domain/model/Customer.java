@@ -7,8 +7,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
+/**
+ * A customer account. Orders are not held here: they are read page by page through
+ * {@link com.ecommerce.domain.port.OrderHistoryRepository}.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +26,6 @@ public class Customer {
     private String phoneNumber;
     private LocalDateTime createdAt;
     private MembershipTier membershipTier;
-    private List<Order> orderHistory;
     private boolean enabled;
 }
 
@@ -1,6 +1,6 @@
 package com.ecommerce.domain.model;
 
-enum MembershipTier {
+public enum MembershipTier {
     BASIC,
     PREMIUM,
     VIP
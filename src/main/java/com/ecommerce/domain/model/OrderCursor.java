@@ -0,0 +1,26 @@
+package com.ecommerce.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in a customer's order history: the date and id of the last order seen. The
+ * next page holds the orders placed before it, with the id breaking ties between orders
+ * placed at the same instant.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class OrderCursor {
+    private final LocalDateTime orderDate;
+    private final Long orderId;
+
+    public static OrderCursor after(Order order) {
+        return new OrderCursor(order.getOrderDate(), order.getId());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of a customer's orders, newest first. {@code next} continues after the last
+ * order and is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderHistoryPage {
+    private final List<Order> orders;
+    private final OrderCursor next;
+
+    public boolean hasMore() {
+        return next != null;
+    }
+}
@@ -13,7 +13,7 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-class OrderItem {
+public class OrderItem {
 
     private Product product;
     private Integer quantity;
@@ -1,6 +1,6 @@
 package com.ecommerce.domain.model;
 
-enum OrderStatus {
+public enum OrderStatus {
     PENDING,
     PAID,
     PROCESSING,
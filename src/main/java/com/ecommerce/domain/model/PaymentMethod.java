@@ -1,6 +1,6 @@
 package com.ecommerce.domain.model;
 
-enum PaymentMethod {
+public enum PaymentMethod {
     CREDIT_CARD,
     PAYPAL,
     BANK_TRANSFER
@@ -0,0 +1,33 @@
+package com.ecommerce.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Products targeted by a bulk operation: either explicit {@code ids}, or every product
+ * matching all of the criteria that are set.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSelection {
+    private List<Long> ids;
+    private Long categoryId;
+    private String nameContains;
+    private ProductStatus status;
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasCriteria() {
+        return categoryId != null || (nameContains != null && !nameContains.isBlank()) || status != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Width of the tumbling windows sales are rolled up into.
+ */
+public enum RollupGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime windowStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
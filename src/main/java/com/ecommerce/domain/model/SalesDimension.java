@@ -0,0 +1,9 @@
+package com.ecommerce.domain.model;
+
+/**
+ * What sales rollups are grouped by within a window: category id or membership tier.
+ */
+public enum SalesDimension {
+    CATEGORY,
+    MEMBERSHIP_TIER
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Units sold and revenue for one value of a dimension (a category id or a tier name)
+ * over one window.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRollup {
+    private RollupGranularity granularity;
+    private SalesDimension dimension;
+    private String key;
+    private LocalDateTime windowStart;
+    private long units;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.domain.port;
+
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+
+import java.util.function.Consumer;
+
+public interface InvalidationTransport {
+    void publish(CacheInvalidationMessage message);
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.domain.port;
+
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderCursor;
+import com.ecommerce.domain.model.OrderHistoryPage;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Placed orders, stored and read per customer. Orders are filed by customer and month,
+ * so neither a page nor a month ever touches the rest of a customer's history.
+ */
+public interface OrderHistoryRepository {
+    /**
+     * Stores an order. It must reference its customer by id and carry its order date.
+     */
+    Order save(Order order);
+
+    /**
+     * Up to {@code limit} orders of the customer placed before {@code before}, newest first;
+     * the most recent ones when {@code before} is null.
+     */
+    OrderHistoryPage findRecent(Long customerId, OrderCursor before, int limit);
+
+    /**
+     * Orders the customer placed in {@code month}, newest first.
+     */
+    List<Order> findByMonth(Long customerId, YearMonth month);
+}
@@ -1,13 +1,44 @@
 package com.ecommerce.domain.port;
 
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSelection;
+import com.ecommerce.domain.model.ProductStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 public interface ProductRepository {
     Product save(Product product);
+
+    /**
+     * Applies {@code change} to the stored product and writes back only what it changed.
+     * Empty if there is no product with {@code id}.
+     */
+    Optional<Product> update(Long id, UnaryOperator<Product> change);
     Optional<Product> findById(Long id);
+
+    /**
+     * Like {@link #findById}, but never answered from a copy that can lag behind the
+     * latest writes, such as a read replica. For reacting to a write made on another node.
+     */
+    default Optional<Product> findCurrentById(Long id) {
+        return findById(id);
+    }
+
     List<Product> findAll();
+
+    /**
+     * Like {@link #findAll}, but never answered from a copy that can lag behind the latest
+     * writes.
+     */
+    default List<Product> findAllCurrent() {
+        return findAll();
+    }
+
+    List<Product> findAllById(Collection<Long> ids);
     void deleteById(Long id);
     List<Product> findByCategoryId(Long categoryId);
     List<Product> findByNameContaining(String name);
@@ -15,4 +46,36 @@ public interface ProductRepository {
     List<Product> findByDescriptionContaining(String description);
     List<Product> findByNameOrDescriptionContaining(String keyword);
 
+    /**
+     * Ids of the products with {@code status} that {@link #findByNameOrDescriptionContaining}
+     * would return, in the same order, without loading the products.
+     */
+    default List<Long> findIdsByNameOrDescriptionContaining(String keyword, ProductStatus status) {
+        return findByNameOrDescriptionContaining(keyword).stream()
+                .filter(product -> product.getStatus() == status)
+                .map(Product::getId)
+                .toList();
+    }
+
+    /**
+     * Ids of the products matching the criteria of {@code selection}.
+     */
+    List<Long> findIds(ProductSelection selection);
+
+    /**
+     * Marks the products {@code DISCONTINUED} with set-based updates, skipping those that
+     * already are. Returns the number of products changed.
+     */
+    int discontinueAll(Collection<Long> ids);
+
+    /**
+     * Physically deletes the products and their category links with set-based deletes.
+     * Returns the number of products deleted.
+     */
+    int deleteAllById(Collection<Long> ids);
+
+    /**
+     * Ids of up to {@code limit} discontinued products last updated before {@code cutoff}.
+     */
+    List<Long> findDiscontinuedIds(LocalDateTime cutoff, int limit);
 }
@@ -0,0 +1,22 @@
+package com.ecommerce.domain.port;
+
+import com.ecommerce.domain.model.RollupGranularity;
+import com.ecommerce.domain.model.SalesRollup;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SalesRollupStore {
+    /**
+     * Adds the units and revenue of each rollup to the stored totals of its window and
+     * key, starting from zero for new ones. Several nodes can write the same windows.
+     */
+    void addAll(Collection<SalesRollup> increments);
+
+    /**
+     * Stored totals of the {@code granularity} windows starting at or after
+     * {@code windowStart}, as added up from every node.
+     */
+    List<SalesRollup> findSince(RollupGranularity granularity, LocalDateTime windowStart);
+}
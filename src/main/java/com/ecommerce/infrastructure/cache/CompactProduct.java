@@ -0,0 +1,220 @@
+package com.ecommerce.infrastructure.cache;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * Resident form of a {@link Product} for large in-memory catalogs.
+ *
+ * <p>Decimals are stored as unscaled {@code long}s with their scales packed into one
+ * {@code int}, timestamps as UTC epoch nanoseconds, stock as a primitive, categories
+ * as an {@code int[]} of ids and strings through a {@link StringPool}. Null values are
+ * tracked in a bit set. Values that do not fit (unscaled decimals beyond {@code long},
+ * scales beyond a byte, category ids beyond {@code int}) are rejected.
+ */
+public final class CompactProduct {
+    private static final int NULL_BASE_PRICE = 1;
+    private static final int NULL_CURRENT_PRICE = 1 << 1;
+    private static final int NULL_WEIGHT = 1 << 2;
+    private static final int NULL_DIMENSIONS = 1 << 3;
+    private static final int NULL_STOCK = 1 << 4;
+    private static final int NULL_CREATED_AT = 1 << 5;
+    private static final int NULL_UPDATED_AT = 1 << 6;
+    private static final int NULL_CATEGORIES = 1 << 7;
+
+    private static final ProductStatus[] STATUSES = ProductStatus.values();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long id;
+    private final String name;
+    private final String description;
+    private final String imageUrl;
+    private final long basePrice;
+    private final long currentPrice;
+    private final long weight;
+    private final long dimensions;
+    private final int scales;
+    private final int stockQuantity;
+    private final long createdAt;
+    private final long updatedAt;
+    private final int[] categoryIds;
+    private final byte status;
+    private final byte nulls;
+
+    private CompactProduct(Product product, StringPool pool) {
+        int nullBits = 0;
+        int packedScales = 0;
+
+        this.id = product.getId();
+        this.name = pool.intern(product.getName());
+        this.description = pool.intern(product.getDescription());
+        this.imageUrl = pool.intern(product.getImageUrl());
+
+        this.basePrice = unscaled(product.getBasePrice());
+        packedScales |= scale(product.getBasePrice());
+        nullBits |= product.getBasePrice() == null ? NULL_BASE_PRICE : 0;
+
+        this.currentPrice = unscaled(product.getCurrentPrice());
+        packedScales |= scale(product.getCurrentPrice()) << 8;
+        nullBits |= product.getCurrentPrice() == null ? NULL_CURRENT_PRICE : 0;
+
+        this.weight = unscaled(product.getWeight());
+        packedScales |= scale(product.getWeight()) << 16;
+        nullBits |= product.getWeight() == null ? NULL_WEIGHT : 0;
+
+        this.dimensions = unscaled(product.getDimensions());
+        packedScales |= scale(product.getDimensions()) << 24;
+        nullBits |= product.getDimensions() == null ? NULL_DIMENSIONS : 0;
+
+        this.stockQuantity = product.getStockQuantity() != null ? product.getStockQuantity() : 0;
+        nullBits |= product.getStockQuantity() == null ? NULL_STOCK : 0;
+
+        this.createdAt = epochNanos(product.getCreatedAt());
+        nullBits |= product.getCreatedAt() == null ? NULL_CREATED_AT : 0;
+        this.updatedAt = epochNanos(product.getUpdatedAt());
+        nullBits |= product.getUpdatedAt() == null ? NULL_UPDATED_AT : 0;
+
+        this.categoryIds = categoryIds(product.getCategories());
+        nullBits |= product.getCategories() == null ? NULL_CATEGORIES : 0;
+
+        this.status = (byte) (product.getStatus() != null ? product.getStatus().ordinal() : -1);
+        this.scales = packedScales;
+        this.nulls = (byte) nullBits;
+    }
+
+    public static CompactProduct from(Product product, StringPool pool) {
+        return new CompactProduct(product, pool);
+    }
+
+    public Product toProduct(LongFunction<Category> categoryResolver) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .basePrice(decimal(basePrice, 0, NULL_BASE_PRICE))
+                .currentPrice(decimal(currentPrice, 8, NULL_CURRENT_PRICE))
+                .categories(categories(categoryResolver))
+                .imageUrl(imageUrl)
+                .stockQuantity(isNull(NULL_STOCK) ? null : stockQuantity)
+                .status(status >= 0 ? STATUSES[status] : null)
+                .weight(decimal(weight, 16, NULL_WEIGHT))
+                .dimensions(decimal(dimensions, 24, NULL_DIMENSIONS))
+                .createdAt(isNull(NULL_CREATED_AT) ? null : timestamp(createdAt))
+                .updatedAt(isNull(NULL_UPDATED_AT) ? null : timestamp(updatedAt))
+                .build();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public ProductStatus getStatus() {
+        return status >= 0 ? STATUSES[status] : null;
+    }
+
+    public boolean hasCategory(long categoryId) {
+        if (categoryIds != null) {
+            for (int candidate : categoryIds) {
+                if (candidate == categoryId) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void forEachCategoryId(IntConsumer action) {
+        if (categoryIds != null) {
+            for (int categoryId : categoryIds) {
+                action.accept(categoryId);
+            }
+        }
+    }
+
+    private boolean isNull(int flag) {
+        return (nulls & flag) != 0;
+    }
+
+    private BigDecimal decimal(long unscaled, int shift, int flag) {
+        return isNull(flag) ? null : BigDecimal.valueOf(unscaled, (byte) (scales >>> shift));
+    }
+
+    private Set<Category> categories(LongFunction<Category> categoryResolver) {
+        if (isNull(NULL_CATEGORIES)) {
+            return null;
+        }
+        Set<Category> categories = new HashSet<>(categoryIds.length * 2);
+        for (int categoryId : categoryIds) {
+            Category category = categoryResolver.apply(categoryId);
+            if (category != null) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    private static long unscaled(BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return value.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Decimal " + value + " does not fit a compact product", e);
+        }
+    }
+
+    private static int scale(BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.scale() < Byte.MIN_VALUE || value.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Scale of " + value + " does not fit a compact product");
+        }
+        return value.scale() & 0xFF;
+    }
+
+    private static long epochNanos(LocalDateTime value) {
+        if (value == null) {
+            return 0;
+        }
+        return Math.addExact(Math.multiplyExact(value.toEpochSecond(ZoneOffset.UTC), NANOS_PER_SECOND), value.getNano());
+    }
+
+    private static LocalDateTime timestamp(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    private static int[] categoryIds(Set<Category> categories) {
+        if (categories == null) {
+            return null;
+        }
+        int[] ids = new int[categories.size()];
+        int i = 0;
+        for (Category category : categories) {
+            if (category.getId() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Category id " + category.getId() + " does not fit a compact product");
+            }
+            ids[i++] = category.getId().intValue();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.infrastructure.cache;
+
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.port.InvalidationTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations synchronously to every subscriber in this JVM. Used for
+ * single-node runs and for tests that put several caches on one transport.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.near-cache.transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ecommerce.infrastructure.cache;
+
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.port.InvalidationTransport;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.net.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts invalidations as UDP multicast datagrams so that instances on one host or
+ * LAN segment hear each other without a broker. Delivery is best effort; lost datagrams
+ * are covered by the near-cache TTL.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.near-cache.transport", havingValue = "multicast")
+public class MulticastInvalidationTransport implements InvalidationTransport {
+    private static final int MAX_DATAGRAM = 512;
+
+    private final InetSocketAddress group;
+    private final MulticastSocket socket;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread receiver;
+
+    public MulticastInvalidationTransport(@Value("${catalog.near-cache.multicast.group}") String group,
+                                          @Value("${catalog.near-cache.multicast.port}") int port) throws IOException {
+        this.group = new InetSocketAddress(InetAddress.getByName(group), port);
+        this.socket = new MulticastSocket(port);
+        socket.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+        socket.joinGroup(this.group, null);
+        this.receiver = Thread.ofPlatform().daemon().name("near-cache-multicast").start(this::receive);
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            byte[] payload = encode(message);
+            socket.send(new DatagramPacket(payload, payload.length, group));
+        } catch (IOException e) {
+            log.warn("Failed to broadcast invalidation for product {}", message.getProductId(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    @PreDestroy
+    void close() {
+        socket.close();
+        receiver.interrupt();
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_DATAGRAM];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                CacheInvalidationMessage message = decode(packet.getData(), packet.getLength());
+                listeners.forEach(listener -> listener.accept(message));
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Dropping unreadable invalidation datagram", e);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener failed", e);
+            }
+        }
+    }
+
+    static byte[] encode(CacheInvalidationMessage message) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(message.getOriginNodeId());
+            out.writeBoolean(message.getProductId() != null);
+            out.writeLong(message.getProductId() != null ? message.getProductId() : 0);
+            out.writeLong(message.getPublishedAtEpochMilli());
+        }
+        return bytes.toByteArray();
+    }
+
+    static CacheInvalidationMessage decode(byte[] data, int length) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, length))) {
+            String origin = in.readUTF();
+            boolean hasProduct = in.readBoolean();
+            long productId = in.readLong();
+            return new CacheInvalidationMessage(origin, hasProduct ? productId : null, in.readLong());
+        }
+    }
+}
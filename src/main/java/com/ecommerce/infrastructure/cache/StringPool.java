@@ -0,0 +1,32 @@
+package com.ecommerce.infrastructure.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Deduplicates strings held by resident catalog data so repeated names, descriptions
+ * and image URLs share one instance. The pool only holds its strings weakly: a value
+ * drops out once no resident product refers to it any more, so names and descriptions
+ * that were overwritten or deleted do not stay on the heap.
+ */
+public class StringPool {
+    private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+
+    public synchronized String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        WeakReference<String> reference = strings.get(value);
+        String existing = reference != null ? reference.get() : null;
+        if (existing != null) {
+            return existing;
+        }
+        strings.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    public synchronized int size() {
+        return strings.size();
+    }
+}
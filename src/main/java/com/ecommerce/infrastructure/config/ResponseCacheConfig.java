@@ -0,0 +1,30 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.application.cache.CatalogVersion;
+import com.ecommerce.infrastructure.web.cache.ResponseBodyCacheFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(name = "catalog.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<ResponseBodyCacheFilter> responseBodyCacheFilter(
+            CatalogVersion catalogVersion,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.response-cache.url-patterns}") String[] urlPatterns,
+            @Value("${catalog.response-cache.max-entries}") int maxEntries,
+            @Value("${catalog.response-cache.gzip-min-size}") int gzipMinSize) {
+        FilterRegistrationBean<ResponseBodyCacheFilter> registration = new FilterRegistrationBean<>(
+                new ResponseBodyCacheFilter(catalogVersion, maxEntries, gzipMinSize, meterRegistry));
+        registration.addUrlPatterns(urlPatterns);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
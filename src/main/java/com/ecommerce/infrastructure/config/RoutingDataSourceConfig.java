@@ -0,0 +1,60 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import com.ecommerce.infrastructure.persistence.routing.ReplicaDataSourceProperties;
+import com.ecommerce.infrastructure.persistence.routing.ReplicaSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to replicas and writes to the primary when
+ * {@code catalog.datasource.routing.enabled=true}. Otherwise the single auto-configured
+ * datasource is used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    public ReplicaSet replicaSet(DataSourceProperties dataSourceProperties,
+                                 ReplicaDataSourceProperties replicaProperties,
+                                 MeterRegistry meterRegistry) {
+        ReplicaSet replicaSet = new ReplicaSet(dataSourceProperties.initializeDataSourceBuilder().build(),
+                replicas(replicaProperties), replicaProperties.getMaxReplicaLagMs());
+        replicaSet.getReplicas().keySet().forEach(name -> meterRegistry.gauge("catalog.datasource.replica_lag",
+                Tags.of("replica", name), replicaSet, set -> set.getLagMillis(name)));
+        return replicaSet;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaSet replicaSet) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(replicaSet));
+    }
+
+    private static Map<String, DataSource> replicas(ReplicaDataSourceProperties replicaProperties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicaProperties.getReplicas().get(i);
+            replicas.put(replica.getName() != null ? replica.getName() : "replica-" + i, DataSourceBuilder.create()
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build());
+        }
+        return replicas;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.web.serialization.CategoryMixin;
+import com.ecommerce.infrastructure.web.serialization.ProductMixin;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serves every endpoint as JSON, CBOR ({@code application/cbor}) or Smile
+ * ({@code application/x-jackson-smile}) by {@code Accept} header. The binary converters
+ * are built from Spring Boot's configured mapper builder, so they share its modules,
+ * settings and the field mixins.
+ */
+@Configuration
+public class SerializationConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer catalogMixins() {
+        return builder -> builder
+                .mixIn(Product.class, ProductMixin.class)
+                .mixIn(Category.class, CategoryMixin.class);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
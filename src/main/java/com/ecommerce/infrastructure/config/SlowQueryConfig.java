@@ -0,0 +1,47 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.persistence.diagnostics.SlowQueryRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the datasource in a datasource-proxy that reports statements slower than
+ * {@code catalog.slow-query.threshold-ms} to the {@link SlowQueryRecorder}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog.slow-query.enabled", havingValue = "true")
+public class SlowQueryConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public SlowQueryRecorder slowQueryRecorder(
+            @Value("${catalog.slow-query.threshold-ms}") long thresholdMillis,
+            @Value("${catalog.slow-query.max-statements}") int maxStatements,
+            @Value("${catalog.slow-query.explain-prefix}") String explainPrefix,
+            MeterRegistry meterRegistry) {
+        return new SlowQueryRecorder(thresholdMillis, maxStatements, explainPrefix, meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(recorder.getObject().listenerFor(dataSource))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
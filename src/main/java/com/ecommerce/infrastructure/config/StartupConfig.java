@@ -0,0 +1,24 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.application.service.CatalogBrowsingService;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.infrastructure.web.controller.CatalogController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("fast-startup")
+public class StartupConfig {
+
+    /**
+     * Keeps the catalog read path eager under {@code spring.main.lazy-initialization}
+     * so the first {@code /api/catalog} request does not pay for bean creation.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter catalogPathEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                ProductRepository.class, CatalogBrowsingService.class, CatalogController.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.diagnostics.RepositoryCallEvent;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSelection;
+import com.ecommerce.domain.port.ProductRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Answers keyword lookups from H2's native full-text index instead of {@code LIKE} scans;
+ * everything else, including writes, goes to JPA. The index is created by the
+ * {@code db/fulltext} migration and maintained by H2 triggers inside the writing
+ * transaction, so {@link #save} and {@link #deleteById} need no extra work.
+ *
+ * <p>Unlike the JPA adapter, keywords match whole words, case-insensitively, and every
+ * word of a keyword must occur: "phone" finds "Smart Phone" but not "Smartphone".
+ * The index covers name and description together; the single-field lookups keep the
+ * candidates whose field contains all the words.
+ */
+@Component
+@Primary
+@Profile("fulltext")
+public class H2FullTextProductPortAdapter implements ProductRepository {
+    private static final String ADAPTER = "fulltext";
+    private static final String SEARCH =
+            "SELECT \"KEYS\" FROM FT_SEARCH_DATA(?, 0, 0) WHERE \"SCHEMA\" = 'PUBLIC' AND \"TABLE\" = 'PRODUCTS'";
+
+    private final JpaProductPortAdapter delegate;
+    private final JdbcTemplate jdbcTemplate;
+
+    public H2FullTextProductPortAdapter(JpaProductPortAdapter delegate, JdbcTemplate jdbcTemplate) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    static Set<String> words(String text) {
+        if (text == null) {
+            return Set.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Product save(Product product) {
+        return delegate.save(product);
+    }
+
+    @Override
+    public Optional<Product> update(Long id, UnaryOperator<Product> change) {
+        return delegate.update(id, change);
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Product> findCurrentById(Long id) {
+        return delegate.findCurrentById(id);
+    }
+
+    @Override
+    public List<Product> findAllCurrent() {
+        return delegate.findAllCurrent();
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public List<Product> findByCategoryId(Long categoryId) {
+        return delegate.findByCategoryId(categoryId);
+    }
+
+    @Override
+    public List<Long> findIds(ProductSelection selection) {
+        return delegate.findIds(selection);
+    }
+
+    @Override
+    public int discontinueAll(Collection<Long> ids) {
+        return delegate.discontinueAll(ids);
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        return delegate.deleteAllById(ids);
+    }
+
+    @Override
+    public List<Long> findDiscontinuedIds(LocalDateTime cutoff, int limit) {
+        return delegate.findDiscontinuedIds(cutoff, limit);
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByNameContaining", name);
+        return event.end(search(name, Product::getName));
+    }
+
+    @Override
+    public List<Product> findByDescriptionContaining(String description) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByDescriptionContaining", description);
+        return event.end(search(description, Product::getDescription));
+    }
+
+    @Override
+    public List<Product> findByNameOrDescriptionContaining(String keyword) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByNameOrDescriptionContaining", keyword);
+        return event.end(search(keyword, null));
+    }
+
+    private List<Product> search(String keyword, Function<Product, String> field) {
+        Set<String> words = words(keyword);
+        if (words.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = jdbcTemplate.query(SEARCH, (rs, row) -> firstKey(rs.getArray(1)), String.join(" ", words));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Product> products = delegate.findAllById(ids);
+        if (field == null) {
+            return products;
+        }
+        return products.stream()
+                .filter(product -> words(field.apply(product)).containsAll(words))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The primary key of a hit; H2 reports key values as strings.
+     */
+    private static Long firstKey(Array keys) throws SQLException {
+        return Long.valueOf(String.valueOf(((Object[]) keys.getArray())[0]));
+    }
+}
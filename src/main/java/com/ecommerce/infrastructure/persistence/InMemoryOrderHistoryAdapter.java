@@ -0,0 +1,95 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.diagnostics.RepositoryCallEvent;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderCursor;
+import com.ecommerce.domain.model.OrderHistoryPage;
+import com.ecommerce.domain.port.OrderHistoryRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order history held per customer in one partition per month, months and orders both
+ * newest first. A page walks back from the cursor's month and stops once it is full;
+ * a month lookup reads a single partition.
+ */
+@Component
+@Primary
+@Profile("mock")
+public class InMemoryOrderHistoryAdapter implements OrderHistoryRepository {
+    private static final String ADAPTER = "memory-orders";
+    private static final Comparator<Key> NEWEST_FIRST = Comparator
+            .comparing(Key::orderDate, Comparator.reverseOrder())
+            .thenComparing(Key::orderId, Comparator.reverseOrder());
+
+    private final Map<Long, NavigableMap<YearMonth, NavigableMap<Key, Order>>> customers = new ConcurrentHashMap<>();
+    private final AtomicLong nextOrderId = new AtomicLong(1);
+
+    @Override
+    public Order save(Order order) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "save", order.getId());
+        if (order.getCustomer() == null || order.getCustomer().getId() == null || order.getOrderDate() == null) {
+            throw new IllegalArgumentException("An order needs a customer id and an order date");
+        }
+        if (order.getId() == null) {
+            order.setId(nextOrderId.getAndIncrement());
+        } else {
+            nextOrderId.accumulateAndGet(order.getId() + 1, Math::max);
+        }
+        customers.computeIfAbsent(order.getCustomer().getId(),
+                        id -> new ConcurrentSkipListMap<>(Comparator.reverseOrder()))
+                .computeIfAbsent(YearMonth.from(order.getOrderDate()), month -> new ConcurrentSkipListMap<>(NEWEST_FIRST))
+                .put(new Key(order.getOrderDate(), order.getId()), order);
+        return event.end(order);
+    }
+
+    @Override
+    public OrderHistoryPage findRecent(Long customerId, OrderCursor before, int limit) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findRecent", customerId);
+        int size = Math.max(limit, 1);
+        List<Order> orders = new ArrayList<>(Math.min(size, 64));
+        boolean more = false;
+        NavigableMap<YearMonth, NavigableMap<Key, Order>> months = customers.get(customerId);
+        if (months != null) {
+            Key after = before == null ? null : new Key(before.getOrderDate(), before.getOrderId());
+            var partitions = after == null ? months : months.tailMap(YearMonth.from(after.orderDate()), true);
+            for (NavigableMap<Key, Order> partition : partitions.values()) {
+                for (Order order : (after == null ? partition : partition.tailMap(after, false)).values()) {
+                    if (orders.size() == size) {
+                        more = true;
+                        break;
+                    }
+                    orders.add(order);
+                }
+                if (more) {
+                    break;
+                }
+            }
+        }
+        event.end(orders);
+        return new OrderHistoryPage(orders, more ? OrderCursor.after(orders.get(size - 1)) : null);
+    }
+
+    @Override
+    public List<Order> findByMonth(Long customerId, YearMonth month) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByMonth", month);
+        NavigableMap<YearMonth, NavigableMap<Key, Order>> months = customers.get(customerId);
+        NavigableMap<Key, Order> partition = months == null ? null : months.get(month);
+        return event.end(partition == null ? List.of() : List.copyOf(partition.values()));
+    }
+
+    private record Key(LocalDateTime orderDate, Long orderId) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.diagnostics.RepositoryCallEvent;
+import com.ecommerce.domain.model.RollupGranularity;
+import com.ecommerce.domain.model.SalesDimension;
+import com.ecommerce.domain.model.SalesRollup;
+import com.ecommerce.domain.port.SalesRollupStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Increments are added to the stored totals with one batched {@code MERGE}, so nodes
+ * writing the same window, or a late order for a window no longer held in memory, add
+ * to the total instead of replacing it.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcSalesRollupStore implements SalesRollupStore {
+    private static final String ADAPTER = "jdbc-rollups";
+    private static final String ADD = "MERGE INTO sales_rollups t USING (VALUES (CAST(? AS VARCHAR(16)), "
+            + "CAST(? AS VARCHAR(32)), CAST(? AS VARCHAR(64)), CAST(? AS TIMESTAMP(6)), CAST(? AS BIGINT), "
+            + "CAST(? AS NUMERIC(38, 2)))) s (granularity, dimension, dimension_key, window_start, units, revenue) "
+            + "ON t.granularity = s.granularity AND t.dimension = s.dimension "
+            + "AND t.dimension_key = s.dimension_key AND t.window_start = s.window_start "
+            + "WHEN MATCHED THEN UPDATE SET units = t.units + s.units, revenue = t.revenue + s.revenue "
+            + "WHEN NOT MATCHED THEN INSERT (granularity, dimension, dimension_key, window_start, units, revenue) "
+            + "VALUES (s.granularity, s.dimension, s.dimension_key, s.window_start, s.units, s.revenue)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addAll(Collection<SalesRollup> increments) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "addAll", increments);
+        jdbcTemplate.batchUpdate(ADD, increments.stream()
+                .map(rollup -> new Object[] { rollup.getGranularity().name(), rollup.getDimension().name(),
+                        rollup.getKey(), Timestamp.valueOf(rollup.getWindowStart()), rollup.getUnits(),
+                        rollup.getRevenue() })
+                .toList());
+        event.end(null);
+    }
+
+    @Override
+    public List<SalesRollup> findSince(RollupGranularity granularity, LocalDateTime windowStart) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findSince", windowStart);
+        return event.end(jdbcTemplate.query("SELECT granularity, dimension, dimension_key, window_start, units, "
+                        + "revenue FROM sales_rollups WHERE granularity = ? AND window_start >= ?",
+                (rs, row) -> SalesRollup.builder()
+                        .granularity(RollupGranularity.valueOf(rs.getString(1)))
+                        .dimension(SalesDimension.valueOf(rs.getString(2)))
+                        .key(rs.getString(3))
+                        .windowStart(rs.getTimestamp(4).toLocalDateTime())
+                        .units(rs.getLong(5))
+                        .revenue(rs.getBigDecimal(6))
+                        .build(),
+                granularity.name(), Timestamp.valueOf(windowStart)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+@Repository
+public interface JpaCategoryRepository extends JpaRepository<CategoryEntity, Long> {
+    @Query("SELECT c.id FROM CategoryEntity c WHERE c.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.diagnostics.RepositoryCallEvent;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderCursor;
+import com.ecommerce.domain.model.OrderHistoryPage;
+import com.ecommerce.domain.port.OrderHistoryRepository;
+import com.ecommerce.infrastructure.persistence.entity.OrderEntity;
+import com.ecommerce.infrastructure.persistence.mapper.OrderMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JpaOrderHistoryAdapter implements OrderHistoryRepository {
+    private static final String ADAPTER = "jpa-orders";
+
+    private final JpaOrderRepository jpaOrderRepository;
+    private final OrderMapper orderMapper;
+
+    @Override
+    @Transactional
+    public Order save(Order order) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "save", order.getId());
+        OrderEntity entity = jpaOrderRepository.save(orderMapper.toEntity(order));
+        return event.end(orderMapper.toDomain(entity));
+    }
+
+    @Override
+    public OrderHistoryPage findRecent(Long customerId, OrderCursor before, int limit) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findRecent", customerId);
+        int size = Math.min(Math.max(limit, 1), OrderEntity.MAX_PAGE_SIZE);
+        // One extra row tells whether another page follows
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<OrderEntity> entities = before == null
+                ? jpaOrderRepository.findLatest(customerId, page)
+                : jpaOrderRepository.findBefore(customerId, before.getOrderDate(), before.getOrderId(), page);
+        List<Order> orders = entities.stream()
+                .limit(size)
+                .map(orderMapper::toDomain)
+                .toList();
+        OrderCursor next = entities.size() > size ? OrderCursor.after(orders.get(size - 1)) : null;
+        event.end(orders);
+        return new OrderHistoryPage(orders, next);
+    }
+
+    @Override
+    public List<Order> findByMonth(Long customerId, YearMonth month) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByMonth", month);
+        return event.end(jpaOrderRepository.findPlacedBetween(customerId, month.atDay(1).atStartOfDay(),
+                        month.plusMonths(1).atDay(1).atStartOfDay()).stream()
+                .map(orderMapper::toDomain)
+                .toList());
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.infrastructure.persistence.entity.OrderEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Every lookup is a range of idx_orders_customer_date read in index order. Pages are
+ * keyset-paginated on (orderDate, id), so a deep page costs the same as the first; the
+ * redundant {@code orderDate <= :orderDate} bounds the seek. H2 only reads an index in
+ * order when the sort names its leading column, hence {@code ORDER BY o.customerId}.
+ * Items are batch-fetched for a whole page when first read.
+ */
+@Repository
+public interface JpaOrderRepository extends JpaRepository<OrderEntity, Long> {
+    @Query("SELECT o FROM OrderEntity o WHERE o.customerId = :customerId "
+            + "ORDER BY o.customerId, o.orderDate DESC, o.id DESC")
+    List<OrderEntity> findLatest(@Param("customerId") Long customerId, Pageable page);
+
+    @Query("SELECT o FROM OrderEntity o WHERE o.customerId = :customerId "
+            + "AND o.orderDate <= :orderDate AND (o.orderDate < :orderDate OR o.id < :orderId) "
+            + "ORDER BY o.customerId, o.orderDate DESC, o.id DESC")
+    List<OrderEntity> findBefore(@Param("customerId") Long customerId,
+                                 @Param("orderDate") LocalDateTime orderDate,
+                                 @Param("orderId") Long orderId,
+                                 Pageable page);
+
+    @Query("SELECT o FROM OrderEntity o WHERE o.customerId = :customerId "
+            + "AND o.orderDate >= :from AND o.orderDate < :to ORDER BY o.customerId, o.orderDate DESC, o.id DESC")
+    List<OrderEntity> findPlacedBetween(@Param("customerId") Long customerId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+}
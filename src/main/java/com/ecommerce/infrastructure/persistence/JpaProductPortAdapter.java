@@ -1,71 +1,200 @@
 package com.ecommerce.infrastructure.persistence;
 
+import com.ecommerce.application.diagnostics.RepositoryCallEvent;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSelection;
+import com.ecommerce.domain.model.ProductStatus;
 import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.infrastructure.persistence.entity.ProductEntity;
 import com.ecommerce.infrastructure.persistence.mapper.ProductMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class JpaProductPortAdapter implements ProductRepository {
+    private static final String ADAPTER = "jpa";
+    private static final int MAX_IN_LIST = 1000;
+
     private final JpaProductRepository jpaProductRepository;
     private final ProductMapper productMapper;
 
     @Override
+    @Transactional
     public Product save(Product product) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "save", product.getId());
         var entity = productMapper.toEntity(product);
         entity = jpaProductRepository.save(entity);
-        return productMapper.toDomain(entity);
+        return event.end(productMapper.toDomain(entity));
+    }
+
+    @Override
+    @Transactional
+    public Optional<Product> update(Long id, UnaryOperator<Product> change) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "update", id);
+        Optional<ProductEntity> found = jpaProductRepository.findById(id);
+        if (found.isEmpty()) {
+            return event.end(Optional.empty());
+        }
+        ProductEntity entity = found.get();
+        productMapper.copyChanges(change.apply(productMapper.toDomain(entity)), entity);
+        jpaProductRepository.flush();
+        return event.end(Optional.of(productMapper.toDomain(entity)));
     }
 
     @Override
     public Optional<Product> findById(Long id) {
-        return jpaProductRepository.findById(id)
-                .map(productMapper::toDomain);
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findById", id);
+        return event.end(jpaProductRepository.findById(id)
+                .map(productMapper::toDomain));
+    }
+
+    /**
+     * Read-write, so the routing datasource sends it to the primary.
+     */
+    @Override
+    @Transactional
+    public Optional<Product> findCurrentById(Long id) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findCurrentById", id);
+        return event.end(jpaProductRepository.findById(id)
+                .map(productMapper::toDomain));
     }
 
     @Override
     public List<Product> findAll() {
-        return jpaProductRepository.findAll().stream()
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findAll", null);
+        return event.end(jpaProductRepository.findAll().stream()
+                .map(productMapper::toDomain)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Read-write, so the routing datasource sends it to the primary.
+     */
+    @Override
+    @Transactional
+    public List<Product> findAllCurrent() {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findAllCurrent", null);
+        return event.end(jpaProductRepository.findAll().stream()
+                .map(productMapper::toDomain)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findAllById", ids);
+        return event.end(jpaProductRepository.findAllById(ids).stream()
                 .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "deleteById", id);
         jpaProductRepository.deleteById(id);
+        event.end(null);
     }
 
     @Override
     public List<Product> findByCategoryId(Long categoryId) {
-        return jpaProductRepository.findByCategoryId(categoryId).stream()
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByCategoryId", categoryId);
+        return event.end(jpaProductRepository.findByCategoryId(categoryId).stream()
                 .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     public List<Product> findByNameContaining(String name) {
-        return jpaProductRepository.findByNameContainingIgnoreCase(name).stream()
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByNameContaining", name);
+        return event.end(jpaProductRepository.findByNameLowerContaining(name.toLowerCase(Locale.ROOT)).stream()
                 .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     public List<Product> findByDescriptionContaining(String description) {
-        return jpaProductRepository.findByDescriptionContainingIgnoreCase(description).stream()
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByDescriptionContaining", description);
+        return event.end(jpaProductRepository.findByDescriptionContainingIgnoreCase(description).stream()
                 .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     public List<Product> findByNameOrDescriptionContaining(String keyword) {
-        return jpaProductRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(keyword, keyword).stream()
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByNameOrDescriptionContaining", keyword);
+        return event.end(jpaProductRepository.findByNameLowerContainingOrDescriptionContainingIgnoreCase(
+                        keyword.toLowerCase(Locale.ROOT), keyword).stream()
                 .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Long> findIdsByNameOrDescriptionContaining(String keyword, ProductStatus status) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findIdsByNameOrDescriptionContaining", keyword);
+        return event.end(jpaProductRepository.findIdsByNameLowerOrDescriptionContaining(
+                keyword.toLowerCase(Locale.ROOT), status));
+    }
+
+    @Override
+    public List<Long> findIds(ProductSelection selection) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findIds", selection.getCategoryId());
+        String nameLower = selection.getNameContains() == null || selection.getNameContains().isBlank()
+                ? null : selection.getNameContains().toLowerCase(Locale.ROOT);
+        return event.end(jpaProductRepository.findIds(selection.getCategoryId(), nameLower, selection.getStatus()));
+    }
+
+    @Override
+    @Transactional
+    public int discontinueAll(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "discontinueAll", ids);
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            updated += jpaProductRepository.updateStatus(chunk, ProductStatus.DISCONTINUED, now);
+        }
+        return event.end(updated);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "deleteAllById", ids);
+        int deleted = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            deleted += jpaProductRepository.deleteAllByIdIn(chunk);
+        }
+        return event.end(deleted);
+    }
+
+    @Override
+    public List<Long> findDiscontinuedIds(LocalDateTime cutoff, int limit) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findDiscontinuedIds", cutoff);
+        return event.end(jpaProductRepository.findIdsByStatusUpdatedBefore(ProductStatus.DISCONTINUED, cutoff,
+                PageRequest.of(0, limit)));
+    }
+
+    /**
+     * Splits ids into IN lists of at most {@link #MAX_IN_LIST} elements.
+     */
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX_IN_LIST) {
+            chunks.add(all.subList(from, Math.min(all.size(), from + MAX_IN_LIST)));
+        }
+        return chunks;
     }
-} 
+}
@@ -1,21 +1,89 @@
 package com.ecommerce.infrastructure.persistence;
 
+import com.ecommerce.domain.model.ProductStatus;
 import com.ecommerce.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Every finder fetches categories and their parents with the products, since the mapper
+ * reads both; a lazy load here costs one extra select per product.
+ *
+ * <p>Category browsing is an {@code IN} subquery rather than a correlated {@code EXISTS},
+ * so the database starts from the category index instead of probing every product.
+ * Name matching goes through the lower-cased {@code nameLower} column, so callers pass
+ * lower-cased input instead of the database lower-casing every row.
+ */
 @Repository
 public interface JpaProductRepository extends JpaRepository<ProductEntity, Long> {
-    @Query("SELECT p FROM ProductEntity p JOIN p.categories c WHERE c.id = :categoryId")
+    @Override
+    @EntityGraph(ProductEntity.WITH_CATEGORIES)
+    Optional<ProductEntity> findById(Long id);
+
+    @Override
+    @EntityGraph(ProductEntity.WITH_CATEGORIES)
+    List<ProductEntity> findAll();
+
+    @Override
+    @EntityGraph(ProductEntity.WITH_CATEGORIES)
+    List<ProductEntity> findAllById(Iterable<Long> ids);
+
+    @EntityGraph(ProductEntity.WITH_CATEGORIES)
+    @Query("SELECT p FROM ProductEntity p WHERE p.id IN "
+            + "(SELECT pc.id FROM ProductEntity pc JOIN pc.categories c WHERE c.id = :categoryId)")
     List<ProductEntity> findByCategoryId(@Param("categoryId") Long categoryId);
 
-    List<ProductEntity> findByNameContainingIgnoreCase(String name);
-    
+    @EntityGraph(ProductEntity.WITH_CATEGORIES)
+    List<ProductEntity> findByNameLowerContaining(String nameLower);
+
+    @EntityGraph(ProductEntity.WITH_CATEGORIES)
     List<ProductEntity> findByDescriptionContainingIgnoreCase(String description);
-    
-    List<ProductEntity> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name, String description);
-} 
+
+    @EntityGraph(ProductEntity.WITH_CATEGORIES)
+    List<ProductEntity> findByNameLowerContainingOrDescriptionContainingIgnoreCase(String nameLower, String description);
+
+    @Query("SELECT p.id FROM ProductEntity p WHERE p.status = :status "
+            + "AND (p.nameLower LIKE %:#{escape(#keywordLower)}% ESCAPE :#{escapeCharacter()} "
+            + "OR LOWER(p.description) LIKE %:#{escape(#keywordLower)}% ESCAPE :#{escapeCharacter()}) "
+            + "ORDER BY p.id")
+    List<Long> findIdsByNameLowerOrDescriptionContaining(@Param("keywordLower") String keywordLower, @Param("status") ProductStatus status);
+
+    @Query("SELECT p.id FROM ProductEntity p WHERE "
+            + "(:categoryId IS NULL OR p.id IN "
+            + "(SELECT pc.id FROM ProductEntity pc JOIN pc.categories c WHERE c.id = :categoryId)) "
+            + "AND (:nameLower IS NULL OR p.nameLower LIKE CONCAT('%', :nameLower, '%')) "
+            + "AND (:status IS NULL OR p.status = :status)")
+    List<Long> findIds(@Param("categoryId") Long categoryId,
+                       @Param("nameLower") String nameLower,
+                       @Param("status") ProductStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductEntity p SET p.status = :status, p.updatedAt = :now "
+            + "WHERE p.id IN :ids AND p.status <> :status")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") ProductStatus status,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Hibernate clears the matching {@code product_categories} rows with one statement
+     * before deleting the products.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProductEntity p WHERE p.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM ProductEntity p WHERE p.status = :status AND p.updatedAt < :cutoff ORDER BY p.updatedAt")
+    List<Long> findIdsByStatusUpdatedBefore(@Param("status") ProductStatus status,
+                                            @Param("cutoff") LocalDateTime cutoff,
+                                            Pageable pageable);
+}
@@ -1,7 +1,9 @@
 package com.ecommerce.infrastructure.persistence;
 
+import com.ecommerce.application.diagnostics.RepositoryCallEvent;
 import com.ecommerce.domain.model.Category;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSelection;
 import com.ecommerce.domain.model.ProductStatus;
 import com.ecommerce.domain.port.ProductRepository;
 import org.springframework.context.annotation.Primary;
@@ -11,13 +13,15 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Component
 @Primary
 @Profile("mock")
 public class MockProductPortAdapter implements ProductRepository {
-    
+    private static final String ADAPTER = "mock";
+
     private final Map<Long, Product> products = new HashMap<>();
     private final Map<Long, Category> categories = new HashMap<>();
     private Long nextProductId = 1L;
@@ -103,6 +107,7 @@ public class MockProductPortAdapter implements ProductRepository {
 
     @Override
     public Product save(Product product) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "save", product.getId());
         if (product.getId() == null) {
             product = Product.builder()
                     .id(nextProductId++)
@@ -141,74 +146,174 @@ public class MockProductPortAdapter implements ProductRepository {
             }
         }
         products.put(product.getId(), product);
-        return product;
+        return event.end(product);
+    }
+
+    @Override
+    public Optional<Product> update(Long id, UnaryOperator<Product> change) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "update", id);
+        Product existing = products.get(id);
+        if (existing == null) {
+            return event.end(Optional.empty());
+        }
+        Product changed = change.apply(Product.builder()
+                .id(existing.getId())
+                .name(existing.getName())
+                .description(existing.getDescription())
+                .basePrice(existing.getBasePrice())
+                .currentPrice(existing.getCurrentPrice())
+                .categories(existing.getCategories())
+                .imageUrl(existing.getImageUrl())
+                .stockQuantity(existing.getStockQuantity())
+                .status(existing.getStatus())
+                .weight(existing.getWeight())
+                .dimensions(existing.getDimensions())
+                .createdAt(existing.getCreatedAt())
+                .updatedAt(existing.getUpdatedAt())
+                .build());
+        changed.setId(id);
+        changed.setCreatedAt(existing.getCreatedAt());
+        changed.setUpdatedAt(LocalDateTime.now());
+        products.put(id, changed);
+        return event.end(Optional.of(changed));
     }
 
     @Override
     public Optional<Product> findById(Long id) {
-        return Optional.ofNullable(products.get(id));
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findById", id);
+        return event.end(Optional.ofNullable(products.get(id)));
     }
 
     @Override
     public List<Product> findAll() {
-        return new ArrayList<>(products.values());
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findAll", null);
+        return event.end(new ArrayList<>(products.values()));
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findAllById", ids);
+        return event.end(ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
     }
 
     @Override
     public void deleteById(Long id) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "deleteById", id);
         products.remove(id);
+        event.end(null);
     }
 
     @Override
     public List<Product> findByCategoryId(Long categoryId) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByCategoryId", categoryId);
         Category category = categories.get(categoryId);
         if (category == null) {
-            return Collections.emptyList();
+            return event.end(Collections.emptyList());
         }
         
-        return products.values().stream()
+        return event.end(products.values().stream()
                 .filter(product -> product.getCategories() != null && 
                         product.getCategories().stream().anyMatch(c -> c.getId().equals(categoryId)))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     public List<Product> findByNameContaining(String name) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByNameContaining", name);
         if (name == null || name.isEmpty()) {
-            return Collections.emptyList();
+            return event.end(Collections.emptyList());
         }
         
         String lowerCaseName = name.toLowerCase();
-        return products.values().stream()
+        return event.end(products.values().stream()
                 .filter(product -> product.getName().toLowerCase().contains(lowerCaseName))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     public List<Product> findByDescriptionContaining(String description) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByDescriptionContaining", description);
         if (description == null || description.isEmpty()) {
-            return Collections.emptyList();
+            return event.end(Collections.emptyList());
         }
         
         String lowerCaseDesc = description.toLowerCase();
-        return products.values().stream()
+        return event.end(products.values().stream()
                 .filter(product -> product.getDescription() != null && 
                         product.getDescription().toLowerCase().contains(lowerCaseDesc))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     public List<Product> findByNameOrDescriptionContaining(String keyword) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByNameOrDescriptionContaining", keyword);
         if (keyword == null || keyword.isEmpty()) {
-            return Collections.emptyList();
+            return event.end(Collections.emptyList());
         }
         
         String lowerCaseKeyword = keyword.toLowerCase();
-        return products.values().stream()
+        return event.end(products.values().stream()
                 .filter(product -> 
                     product.getName().toLowerCase().contains(lowerCaseKeyword) || 
                     (product.getDescription() != null && 
                      product.getDescription().toLowerCase().contains(lowerCaseKeyword)))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Long> findIds(ProductSelection selection) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findIds", selection.getCategoryId());
+        String nameContains = selection.getNameContains() == null || selection.getNameContains().isBlank()
+                ? null : selection.getNameContains().toLowerCase();
+        return event.end(products.values().stream()
+                .filter(product -> selection.getCategoryId() == null || (product.getCategories() != null
+                        && product.getCategories().stream().anyMatch(c -> c.getId().equals(selection.getCategoryId()))))
+                .filter(product -> nameContains == null || product.getName().toLowerCase().contains(nameContains))
+                .filter(product -> selection.getStatus() == null || product.getStatus() == selection.getStatus())
+                .map(Product::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public int discontinueAll(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "discontinueAll", ids);
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Long id : ids) {
+            Product product = products.get(id);
+            if (product != null && product.getStatus() != ProductStatus.DISCONTINUED) {
+                product.setStatus(ProductStatus.DISCONTINUED);
+                product.setUpdatedAt(now);
+                updated++;
+            }
+        }
+        return event.end(updated);
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "deleteAllById", ids);
+        int deleted = 0;
+        for (Long id : ids) {
+            if (products.remove(id) != null) {
+                deleted++;
+            }
+        }
+        return event.end(deleted);
+    }
+
+    @Override
+    public List<Long> findDiscontinuedIds(LocalDateTime cutoff, int limit) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findDiscontinuedIds", cutoff);
+        return event.end(products.values().stream()
+                .filter(product -> product.getStatus() == ProductStatus.DISCONTINUED
+                        && product.getUpdatedAt() != null && product.getUpdatedAt().isBefore(cutoff))
+                .sorted(Comparator.comparing(Product::getUpdatedAt))
+                .limit(limit)
+                .map(Product::getId)
+                .collect(Collectors.toList()));
     }
-} 
+}
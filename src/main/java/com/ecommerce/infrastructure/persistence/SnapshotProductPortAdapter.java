@@ -0,0 +1,318 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.diagnostics.RepositoryCallEvent;
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSelection;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.infrastructure.cache.CompactProduct;
+import com.ecommerce.infrastructure.cache.StringPool;
+import com.ecommerce.infrastructure.persistence.snapshot.CatalogSnapshot;
+import com.ecommerce.infrastructure.persistence.snapshot.CatalogSnapshotCodec;
+import com.ecommerce.infrastructure.persistence.snapshot.CatalogSnapshotException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Serves catalog reads from memory, warmed from the binary snapshot on disk so the
+ * node is ready before the database has been queried. The database is reconciled in
+ * the background after startup; writes go through to JPA and are applied in memory.
+ * Products are held as {@link CompactProduct}s and materialized per read. Categories no
+ * resident product refers to any more are pruned on each reconcile and snapshot write.
+ */
+@Slf4j
+@Component
+@Primary
+@Profile("snapshot")
+public class SnapshotProductPortAdapter implements ProductRepository {
+    private static final String ADAPTER = "snapshot";
+
+    private final JpaProductPortAdapter delegate;
+    private final CatalogSnapshotCodec codec;
+    private final Path snapshotPath;
+
+    private final Map<Long, CompactProduct> products = new ConcurrentHashMap<>();
+    private final Map<Long, Category> categories = new ConcurrentHashMap<>();
+    private final StringPool strings = new StringPool();
+    private final Set<Long> writtenDuringReload = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile boolean reloading;
+
+    public SnapshotProductPortAdapter(JpaProductPortAdapter delegate,
+                                      CatalogSnapshotCodec codec,
+                                      @Value("${catalog.snapshot.path}") String snapshotPath) {
+        this.delegate = delegate;
+        this.codec = codec;
+        this.snapshotPath = Path.of(snapshotPath);
+    }
+
+    @PostConstruct
+    void warmUp() {
+        if (loadSnapshot()) {
+            CompletableFuture.runAsync(this::reloadFromDatabase)
+                    .exceptionally(e -> {
+                        log.warn("Background catalog reload failed", e);
+                        return null;
+                    });
+        } else {
+            reloadFromDatabase();
+        }
+    }
+
+    private boolean loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        try {
+            CatalogSnapshot snapshot = codec.read(snapshotPath);
+            snapshot.getProducts().forEach(this::putResident);
+            log.info("Loaded {} products from catalog snapshot {}", products.size(), snapshotPath);
+            return true;
+        } catch (IOException | CatalogSnapshotException e) {
+            log.warn("Ignoring unusable catalog snapshot {}: {}", snapshotPath, e.getMessage());
+            return false;
+        }
+    }
+
+    private void reloadFromDatabase() {
+        reloading = true;
+        try {
+            Map<Long, Product> fresh = delegate.findAll().stream()
+                    .collect(Collectors.toMap(Product::getId, product -> product));
+            synchronized (this) {
+                products.keySet().removeIf(id -> !fresh.containsKey(id) && !writtenDuringReload.contains(id));
+                fresh.forEach((id, product) -> {
+                    if (!writtenDuringReload.contains(id)) {
+                        putResident(product);
+                    }
+                });
+                writtenDuringReload.clear();
+                reloading = false;
+                pruneCategories();
+            }
+            dirty.set(true);
+            log.info("Reconciled catalog with database: {} products", products.size());
+        } finally {
+            reloading = false;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${catalog.snapshot.write-interval-ms}",
+               fixedDelayString = "${catalog.snapshot.write-interval-ms}")
+    public void writeSnapshot() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        synchronized (this) {
+            pruneCategories();
+        }
+        List<Product> current = findAll();
+        try {
+            codec.write(new CatalogSnapshot(System.currentTimeMillis(), new ArrayList<>(categories.values()), current),
+                    snapshotPath);
+            log.debug("Wrote catalog snapshot with {} products to {}", current.size(), snapshotPath);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Failed to write catalog snapshot {}", snapshotPath, e);
+        }
+    }
+
+    private void putResident(Product product) {
+        if (product.getCategories() != null) {
+            for (Category category : product.getCategories()) {
+                for (Category c = category; c != null; c = c.getParentCategory()) {
+                    categories.put(c.getId(), c);
+                }
+            }
+        }
+        products.put(product.getId(), CompactProduct.from(product, strings));
+    }
+
+    private void pruneCategories() {
+        Set<Long> referenced = new HashSet<>();
+        for (CompactProduct product : products.values()) {
+            product.forEachCategoryId(id -> {
+                Category category = categories.get((long) id);
+                while (category != null && referenced.add(category.getId())) {
+                    category = category.getParentCategory();
+                }
+            });
+        }
+        categories.keySet().retainAll(referenced);
+    }
+
+    private Product materialize(CompactProduct product) {
+        return product.toProduct(id -> categories.get(id));
+    }
+
+    private List<Product> materializeMatching(Predicate<CompactProduct> filter) {
+        return products.values().stream()
+                .filter(filter)
+                .map(this::materialize)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Product save(Product product) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "save", product.getId());
+        Product saved = delegate.save(product);
+        synchronized (this) {
+            if (reloading) {
+                writtenDuringReload.add(saved.getId());
+            }
+            putResident(saved);
+        }
+        dirty.set(true);
+        return event.end(saved);
+    }
+
+    @Override
+    public Optional<Product> update(Long id, UnaryOperator<Product> change) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "update", id);
+        Optional<Product> updated = delegate.update(id, change);
+        updated.ifPresent(product -> {
+            synchronized (this) {
+                if (reloading) {
+                    writtenDuringReload.add(id);
+                }
+                putResident(product);
+            }
+            dirty.set(true);
+        });
+        return event.end(updated);
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findById", id);
+        return event.end(Optional.ofNullable(products.get(id)).map(this::materialize));
+    }
+
+    @Override
+    public List<Product> findAll() {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findAll", null);
+        return event.end(materializeMatching(product -> true));
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findAllById", ids);
+        return event.end(ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(this::materialize)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "deleteById", id);
+        delegate.deleteById(id);
+        synchronized (this) {
+            if (reloading) {
+                writtenDuringReload.add(id);
+            }
+            products.remove(id);
+        }
+        dirty.set(true);
+        event.end(null);
+    }
+
+    @Override
+    public List<Product> findByCategoryId(Long categoryId) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByCategoryId", categoryId);
+        return event.end(materializeMatching(product -> product.hasCategory(categoryId)));
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByNameContaining", name);
+        if (name == null || name.isEmpty()) {
+            return event.end(Collections.emptyList());
+        }
+        String lowerCaseName = name.toLowerCase();
+        return event.end(materializeMatching(product -> product.getName().toLowerCase().contains(lowerCaseName)));
+    }
+
+    @Override
+    public List<Product> findByDescriptionContaining(String description) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByDescriptionContaining", description);
+        if (description == null || description.isEmpty()) {
+            return event.end(Collections.emptyList());
+        }
+        String lowerCaseDesc = description.toLowerCase();
+        return event.end(materializeMatching(product -> product.getDescription() != null &&
+                product.getDescription().toLowerCase().contains(lowerCaseDesc)));
+    }
+
+    @Override
+    public List<Product> findByNameOrDescriptionContaining(String keyword) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "findByNameOrDescriptionContaining", keyword);
+        if (keyword == null || keyword.isEmpty()) {
+            return event.end(Collections.emptyList());
+        }
+        String lowerCaseKeyword = keyword.toLowerCase();
+        return event.end(materializeMatching(product ->
+                product.getName().toLowerCase().contains(lowerCaseKeyword) ||
+                (product.getDescription() != null &&
+                 product.getDescription().toLowerCase().contains(lowerCaseKeyword))));
+    }
+
+    @Override
+    public List<Long> findIds(ProductSelection selection) {
+        return delegate.findIds(selection);
+    }
+
+    @Override
+    public int discontinueAll(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "discontinueAll", ids);
+        int updated = delegate.discontinueAll(ids);
+        List<Product> discontinued = delegate.findAllById(ids);
+        synchronized (this) {
+            for (Product product : discontinued) {
+                if (reloading) {
+                    writtenDuringReload.add(product.getId());
+                }
+                putResident(product);
+            }
+        }
+        dirty.set(true);
+        return event.end(updated);
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        RepositoryCallEvent event = RepositoryCallEvent.begin(ADAPTER, "deleteAllById", ids);
+        int deleted = delegate.deleteAllById(ids);
+        synchronized (this) {
+            if (reloading) {
+                writtenDuringReload.addAll(ids);
+            }
+            products.keySet().removeAll(ids);
+        }
+        dirty.set(true);
+        return event.end(deleted);
+    }
+
+    @Override
+    public List<Long> findDiscontinuedIds(LocalDateTime cutoff, int limit) {
+        return delegate.findDiscontinuedIds(cutoff, limit);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.infrastructure.persistence.diagnostics;
+
+import java.time.Instant;
+
+/**
+ * Aggregated executions of one normalized statement that exceeded the slow-query threshold.
+ */
+public record SlowQuery(String statement,
+                        long count,
+                        long totalMillis,
+                        long maxMillis,
+                        double meanMillis,
+                        String lastParameters,
+                        Instant lastSeen,
+                        String plan) {
+}
@@ -0,0 +1,201 @@
+package com.ecommerce.infrastructure.persistence.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Captures statements slower than {@code thresholdMillis} and aggregates them by normalized
+ * SQL: whitespace collapsed, literals and IN lists of any length reduced to {@code ?}.
+ * Statements under the threshold cost one comparison.
+ *
+ * <p>The first time a SELECT shape is captured its plan is fetched with
+ * {@code <explainPrefix> <sql>} and the captured bind parameters, on a separate connection
+ * from a single background thread; plan requests that arrive while it is busy are dropped
+ * and retried on the next capture.
+ */
+@Slf4j
+public class SlowQueryRecorder {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern LITERAL = Pattern.compile("'(?:[^']|'')*'|\\b\\d+(?:\\.\\d+)?\\b");
+    private static final int MAX_PARAMETER_LENGTH = 64;
+
+    private final long thresholdMillis;
+    private final int maxStatements;
+    private final String explainPrefix;
+    private final Map<String, Statistics> statements = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(16), runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final Counter captured;
+    private final Counter dropped;
+
+    public SlowQueryRecorder(long thresholdMillis, int maxStatements, String explainPrefix, MeterRegistry meterRegistry) {
+        this.thresholdMillis = thresholdMillis;
+        this.maxStatements = maxStatements;
+        this.explainPrefix = explainPrefix;
+        this.captured = meterRegistry.counter("catalog.slow_queries.captured");
+        this.dropped = meterRegistry.counter("catalog.slow_queries.dropped");
+        meterRegistry.gaugeMapSize("catalog.slow_queries.statements", Tags.empty(), statements);
+    }
+
+    /**
+     * Listener for a datasource-proxy around {@code target}; plans are fetched from {@code target}.
+     */
+    public QueryExecutionListener listenerFor(DataSource target) {
+        return new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+                if (execution.getElapsedTime() >= thresholdMillis) {
+                    queries.forEach(query -> record(target, query, execution.getElapsedTime()));
+                }
+            }
+        };
+    }
+
+    public List<SlowQuery> top(int limit) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(SlowQuery::totalMillis).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    public void shutdown() {
+        explainer.shutdownNow();
+    }
+
+    static String normalize(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = LITERAL.matcher(normalized).replaceAll("?");
+        return IN_LIST.matcher(normalized).replaceAll("(?)");
+    }
+
+    private void record(DataSource target, QueryInfo query, long elapsedMillis) {
+        String key = normalize(query.getQuery());
+        Statistics statistics = statements.get(key);
+        if (statistics == null) {
+            if (statements.size() >= maxStatements) {
+                dropped.increment();
+                return;
+            }
+            statistics = statements.computeIfAbsent(key, k -> new Statistics());
+        }
+        List<ParameterSetOperation> parameters = query.getParametersList().isEmpty()
+                ? List.of() : query.getParametersList().get(0);
+        statistics.record(elapsedMillis, describe(parameters));
+        captured.increment();
+        if (isQuery(key) && statistics.claimPlan()) {
+            try {
+                Statistics claimed = statistics;
+                explainer.execute(() -> claimed.plan = explain(target, query.getQuery(), parameters));
+            } catch (RuntimeException e) {
+                statistics.releasePlan();
+            }
+        }
+    }
+
+    private String explain(DataSource target, String sql, List<ParameterSetOperation> parameters) {
+        try (Connection connection = target.getConnection();
+             PreparedStatement statement = connection.prepareStatement(explainPrefix + " " + sql)) {
+            for (ParameterSetOperation parameter : parameters) {
+                parameter.getMethod().invoke(statement, parameter.getArgs());
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = statement.executeQuery()) {
+                int columns = rows.getMetaData().getColumnCount();
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        plan.append(i > 1 ? " | " : "").append(rows.getString(i));
+                    }
+                    plan.append('\n');
+                }
+            }
+            return plan.toString().trim();
+        } catch (Exception e) {
+            log.debug("EXPLAIN failed for {}", sql, e);
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        return lower.startsWith("select") || lower.startsWith("with");
+    }
+
+    private static String describe(List<ParameterSetOperation> parameters) {
+        return parameters.stream()
+                .map(parameter -> {
+                    Object[] args = parameter.getArgs();
+                    String value = args.length > 1 ? String.valueOf(args[1]) : "";
+                    return args[0] + "=" + (value.length() > MAX_PARAMETER_LENGTH
+                            ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value);
+                })
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static final class Statistics {
+        private final AtomicBoolean planClaimed = new AtomicBoolean();
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+        private String lastParameters;
+        private Instant lastSeen;
+        private volatile String plan;
+
+        private synchronized void record(long elapsedMillis, String parameters) {
+            count++;
+            totalMillis += elapsedMillis;
+            maxMillis = Math.max(maxMillis, elapsedMillis);
+            lastParameters = parameters;
+            lastSeen = Instant.now();
+        }
+
+        private boolean claimPlan() {
+            return plan == null && planClaimed.compareAndSet(false, true);
+        }
+
+        private void releasePlan() {
+            planClaimed.set(false);
+        }
+
+        private synchronized SlowQuery snapshot(String statement) {
+            return new SlowQuery(statement, count, totalMillis, maxMillis, (double) totalMillis / count,
+                    lastParameters, lastSeen, plan);
+        }
+    }
+}
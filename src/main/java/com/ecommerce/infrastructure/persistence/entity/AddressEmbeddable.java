@@ -0,0 +1,25 @@
+package com.ecommerce.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddressEmbeddable {
+    private String street;
+    private String city;
+    private String state;
+    private String country;
+
+    @Column(name = "zip_code")
+    private String zipCode;
+}
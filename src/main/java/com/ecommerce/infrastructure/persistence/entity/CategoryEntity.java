@@ -1,6 +1,7 @@
 package com.ecommerce.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -9,8 +10,14 @@ import lombok.Builder;
 
 import java.util.Set;
 
+/**
+ * Product reads fetch categories with their parent (Hibernate will not join the self
+ * reference twice). Ancestors above that come from the category registry once known and
+ * are otherwise loaded in batches: one query per extra tree level, not one per category.
+ */
 @Entity
 @Table(name = "categories")
+@BatchSize(size = 100)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -2,6 +2,7 @@ package com.ecommerce.infrastructure.persistence.entity;
 
 import com.ecommerce.domain.model.ProductStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -10,16 +11,23 @@ import lombok.Builder;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
+@DynamicUpdate
 @Table(name = "products")
+@NamedEntityGraph(name = ProductEntity.WITH_CATEGORIES,
+        attributeNodes = @NamedAttributeNode(value = "categories", subgraph = "category"),
+        subgraphs = @NamedSubgraph(name = "category", attributeNodes = @NamedAttributeNode("parentCategory")))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ProductEntity {
+    public static final String WITH_CATEGORIES = "Product.withCategories";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -27,6 +35,9 @@ public class ProductEntity {
     @Column(nullable = false)
     private String name;
 
+    @Column(name = "name_lower", nullable = false)
+    private String nameLower;
+
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -68,10 +79,16 @@ public class ProductEntity {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        nameLower = lowerCase(name);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        nameLower = lowerCase(name);
+    }
+
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
     }
 } 
\ No newline at end of file
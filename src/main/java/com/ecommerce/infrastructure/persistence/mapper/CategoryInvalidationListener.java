@@ -0,0 +1,55 @@
+package com.ecommerce.infrastructure.persistence.mapper;
+
+import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts a category from the {@link CategoryRegistry} when Hibernate updates or deletes it.
+ * Registered with the session factory here so the entity classes stay unaware of the
+ * mapping layer.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryInvalidationListener implements PostUpdateEventListener, PostDeleteEventListener {
+    private final EntityManagerFactory entityManagerFactory;
+    private final CategoryRegistry categoryRegistry;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof CategoryEntity category) {
+            categoryRegistry.invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof CategoryEntity category) {
+            categoryRegistry.invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
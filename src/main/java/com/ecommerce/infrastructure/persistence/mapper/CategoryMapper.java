@@ -1,49 +1,53 @@
 package com.ecommerce.infrastructure.persistence.mapper;
 
+import com.ecommerce.application.diagnostics.MappingEvent;
 import com.ecommerce.domain.model.Category;
 import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class CategoryMapper {
+    private final CategoryRegistry categoryRegistry;
+
     public Set<Category> toDomainSet(Set<CategoryEntity> entities) {
         if (entities == null) return null;
-        return entities.stream()
+        MappingEvent event = MappingEvent.begin("CategoryMapper", "toDomainSet", entities);
+        return event.end(entities.stream()
                 .map(this::toDomain)
-                .collect(Collectors.toSet());
-    }
-
-    public Set<CategoryEntity> toEntitySet(Set<Category> domains) {
-        if (domains == null) return null;
-        return domains.stream()
-                .map(this::toEntity)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toSet()));
     }
 
     public Category toDomain(CategoryEntity entity) {
         if (entity == null) return null;
-        
-        return Category.builder()
+
+        // Categories attached by reference on a write are still proxies; use the known
+        // instance rather than loading them
+        if (!Hibernate.isInitialized(entity)) {
+            Category known = categoryRegistry.get(entity.getId());
+            if (known != null) {
+                return known;
+            }
+        }
+
+        // The parent chain is resolved first so a renamed ancestor also retires this entry
+        Category parent = toDomain(entity.getParentCategory());
+        Category canonical = categoryRegistry.getIfCurrent(entity.getId(), entity.getName(),
+                entity.getDescription(), parent);
+        if (canonical != null) {
+            return canonical;
+        }
+
+        return categoryRegistry.register(Category.builder()
                 .id(entity.getId())
                 .name(entity.getName())
                 .description(entity.getDescription())
-                .parentCategory(entity.getParentCategory() != null ? 
-                    toDomain(entity.getParentCategory()) : null)
-                .build();
-    }
-
-    public CategoryEntity toEntity(Category domain) {
-        if (domain == null) return null;
-        
-        return CategoryEntity.builder()
-                .id(domain.getId())
-                .name(domain.getName())
-                .description(domain.getDescription())
-                .parentCategory(domain.getParentCategory() != null ? 
-                    toEntity(domain.getParentCategory()) : null)
-                .build();
+                .parentCategory(parent)
+                .build());
     }
-} 
+}
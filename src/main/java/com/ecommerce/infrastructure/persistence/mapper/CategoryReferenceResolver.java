@@ -0,0 +1,53 @@
+package com.ecommerce.infrastructure.persistence.mapper;
+
+import com.ecommerce.application.diagnostics.MappingEvent;
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.infrastructure.persistence.JpaCategoryRepository;
+import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Attaches categories to a product being written by id alone. The ids are checked with
+ * one existence query, then turned into uninitialized proxies, so a save never loads,
+ * merges or rewrites a category or its parents. Must be called inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryReferenceResolver {
+    private final JpaCategoryRepository jpaCategoryRepository;
+
+    /**
+     * References to the categories with the ids of {@code categories}. Throws
+     * {@link IllegalArgumentException} when a category has no id or does not exist.
+     */
+    public Set<CategoryEntity> resolve(Set<Category> categories) {
+        if (categories == null) {
+            return null;
+        }
+        MappingEvent event = MappingEvent.begin("CategoryReferenceResolver", "resolve", categories);
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Category category : categories) {
+            if (category == null || category.getId() == null) {
+                throw new IllegalArgumentException("Categories must be referenced by id");
+            }
+            ids.add(category.getId());
+        }
+        if (ids.isEmpty()) {
+            return event.end(new HashSet<>());
+        }
+        Set<Long> existing = jpaCategoryRepository.findExistingIds(ids);
+        if (existing.size() < ids.size()) {
+            ids.removeAll(existing);
+            throw new IllegalArgumentException("Unknown category ids: " + ids);
+        }
+        return event.end(ids.stream()
+                .map(jpaCategoryRepository::getReferenceById)
+                .collect(Collectors.toCollection(HashSet::new)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.infrastructure.persistence.mapper;
+
+import com.ecommerce.domain.model.Category;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Canonical {@link Category} instances shared by every mapped product. Instances handed
+ * out here are shared and must be treated as read-only; a changed category is replaced
+ * by a new instance and the registry version is bumped.
+ */
+@Component
+public class CategoryRegistry {
+    private final Map<Long, Category> categories = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public Category get(Long id) {
+        return id != null ? categories.get(id) : null;
+    }
+
+    /**
+     * Returns the canonical instance for {@code id} if it still carries the given state,
+     * otherwise {@code null}. {@code parent} must itself be current: it is compared by
+     * identity, so a parent that was replaced since also retires its children.
+     */
+    public Category getIfCurrent(Long id, String name, String description, Category parent) {
+        Category category = get(id);
+        if (category == null
+                || !Objects.equals(category.getName(), name)
+                || !Objects.equals(category.getDescription(), description)
+                || category.getParentCategory() != parent) {
+            return null;
+        }
+        return category;
+    }
+
+    public Category register(Category category) {
+        Category previous = categories.put(category.getId(), category);
+        if (previous != null && previous != category) {
+            evictDescendantsOf(category.getId());
+            version.incrementAndGet();
+        }
+        return category;
+    }
+
+    public void invalidate(Long id) {
+        if (id != null && categories.remove(id) != null) {
+            evictDescendantsOf(id);
+            version.incrementAndGet();
+        }
+    }
+
+    public void invalidateAll() {
+        categories.clear();
+        version.incrementAndGet();
+    }
+
+    private void evictDescendantsOf(Long id) {
+        categories.values().removeIf(category -> hasAncestor(category, id));
+    }
+
+    private boolean hasAncestor(Category category, Long id) {
+        for (Category parent = category.getParentCategory(); parent != null; parent = parent.getParentCategory()) {
+            if (id.equals(parent.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
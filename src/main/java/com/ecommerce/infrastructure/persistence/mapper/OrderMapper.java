@@ -0,0 +1,109 @@
+package com.ecommerce.infrastructure.persistence.mapper;
+
+import com.ecommerce.application.diagnostics.MappingEvent;
+import com.ecommerce.domain.model.Address;
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.persistence.entity.AddressEmbeddable;
+import com.ecommerce.infrastructure.persistence.entity.OrderEntity;
+import com.ecommerce.infrastructure.persistence.entity.OrderItemEmbeddable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Orders keep their customer and products by id: a mapped order's customer and item
+ * products carry only their id, and nothing else is loaded for them.
+ */
+@Component
+public class OrderMapper {
+
+    public Order toDomain(OrderEntity entity) {
+        if (entity == null) return null;
+
+        MappingEvent event = MappingEvent.begin("OrderMapper", "toDomain", entity.getId());
+        return event.end(Order.builder()
+                .id(entity.getId())
+                .customer(Customer.builder().id(entity.getCustomerId()).build())
+                .orderDate(entity.getOrderDate())
+                .status(entity.getStatus())
+                .paymentMethod(entity.getPaymentMethod())
+                .shippingAddress(toDomain(entity.getShippingAddress()))
+                .billingAddress(toDomain(entity.getBillingAddress()))
+                .orderItems(entity.getItems().stream()
+                        .map(item -> OrderItem.builder()
+                                .product(item.getProductId() != null
+                                        ? Product.builder().id(item.getProductId()).build() : null)
+                                .quantity(item.getQuantity())
+                                .priceAtPurchase(item.getPriceAtPurchase())
+                                .build())
+                        .toList())
+                .subtotal(entity.getSubtotal())
+                .shippingCost(entity.getShippingCost())
+                .taxAmount(entity.getTaxAmount())
+                .discountAmount(entity.getDiscountAmount())
+                .totalPrice(entity.getTotalPrice())
+                .trackingInformation(entity.getTrackingInformation())
+                .build());
+    }
+
+    public OrderEntity toEntity(Order domain) {
+        if (domain == null) return null;
+        if (domain.getCustomer() == null || domain.getCustomer().getId() == null || domain.getOrderDate() == null) {
+            throw new IllegalArgumentException("An order needs a customer id and an order date");
+        }
+
+        MappingEvent event = MappingEvent.begin("OrderMapper", "toEntity", domain.getId());
+        List<OrderItemEmbeddable> items = new ArrayList<>();
+        if (domain.getOrderItems() != null) {
+            for (OrderItem item : domain.getOrderItems()) {
+                items.add(OrderItemEmbeddable.builder()
+                        .productId(item.getProduct() != null ? item.getProduct().getId() : null)
+                        .quantity(item.getQuantity())
+                        .priceAtPurchase(item.getPriceAtPurchase())
+                        .build());
+            }
+        }
+        return event.end(OrderEntity.builder()
+                .id(domain.getId())
+                .customerId(domain.getCustomer().getId())
+                .orderDate(domain.getOrderDate())
+                .status(domain.getStatus())
+                .paymentMethod(domain.getPaymentMethod())
+                .shippingAddress(toEmbeddable(domain.getShippingAddress()))
+                .billingAddress(toEmbeddable(domain.getBillingAddress()))
+                .items(items)
+                .subtotal(domain.getSubtotal())
+                .shippingCost(domain.getShippingCost())
+                .taxAmount(domain.getTaxAmount())
+                .discountAmount(domain.getDiscountAmount())
+                .totalPrice(domain.getTotalPrice())
+                .trackingInformation(domain.getTrackingInformation())
+                .build());
+    }
+
+    private static Address toDomain(AddressEmbeddable address) {
+        if (address == null) return null;
+        return Address.builder()
+                .street(address.getStreet())
+                .city(address.getCity())
+                .state(address.getState())
+                .country(address.getCountry())
+                .zipCode(address.getZipCode())
+                .build();
+    }
+
+    private static AddressEmbeddable toEmbeddable(Address address) {
+        if (address == null) return null;
+        return AddressEmbeddable.builder()
+                .street(address.getStreet())
+                .city(address.getCity())
+                .state(address.getState())
+                .country(address.getCountry())
+                .zipCode(address.getZipCode())
+                .build();
+    }
+}
@@ -1,20 +1,31 @@
 package com.ecommerce.infrastructure.persistence.mapper;
 
+import com.ecommerce.application.diagnostics.MappingEvent;
+import com.ecommerce.domain.model.Category;
 import com.ecommerce.domain.model.Product;
-import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
 import com.ecommerce.infrastructure.persistence.entity.ProductEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class ProductMapper {
     private final CategoryMapper categoryMapper;
+    private final CategoryReferenceResolver categoryReferences;
 
     public Product toDomain(ProductEntity entity) {
         if (entity == null) return null;
         
-        return Product.builder()
+        MappingEvent event = MappingEvent.begin("ProductMapper", "toDomain", entity.getId());
+        return event.end(Product.builder()
                 .id(entity.getId())
                 .name(entity.getName())
                 .description(entity.getDescription())
@@ -28,19 +39,89 @@ public class ProductMapper {
                 .dimensions(entity.getDimensions())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
-                .build();
+                .build());
+    }
+
+    /**
+     * Copies the fields of {@code domain} that differ onto the managed {@code entity}, so
+     * Hibernate's dirty checking (with {@code @DynamicUpdate}) updates only those columns.
+     * Decimals are compared by value. Category links are added and removed individually,
+     * and only when the set of category ids differs. Id and creation time are left alone.
+     * Throws {@link IllegalArgumentException}, before changing anything, when a field
+     * whose column is {@code NOT NULL} is missing.
+     */
+    public void copyChanges(Product domain, ProductEntity entity) {
+        MappingEvent event = MappingEvent.begin("ProductMapper", "copyChanges", entity.getId());
+        requireField(domain.getName(), "name");
+        requireField(domain.getBasePrice(), "basePrice");
+        requireField(domain.getCurrentPrice(), "currentPrice");
+        requireField(domain.getStockQuantity(), "stockQuantity");
+        requireField(domain.getStatus(), "status");
+        setIfChanged(domain.getName(), entity.getName(), entity::setName);
+        setIfChanged(domain.getDescription(), entity.getDescription(), entity::setDescription);
+        setIfChangedDecimal(domain.getBasePrice(), entity.getBasePrice(), entity::setBasePrice);
+        setIfChangedDecimal(domain.getCurrentPrice(), entity.getCurrentPrice(), entity::setCurrentPrice);
+        setIfChanged(domain.getImageUrl(), entity.getImageUrl(), entity::setImageUrl);
+        setIfChanged(domain.getStockQuantity(), entity.getStockQuantity(), entity::setStockQuantity);
+        setIfChanged(domain.getStatus(), entity.getStatus(), entity::setStatus);
+        setIfChangedDecimal(domain.getWeight(), entity.getWeight(), entity::setWeight);
+        setIfChangedDecimal(domain.getDimensions(), entity.getDimensions(), entity::setDimensions);
+        copyCategoryChanges(domain.getCategories(), entity);
+        event.end(null);
+    }
+
+    private void copyCategoryChanges(Set<Category> domainCategories, ProductEntity entity) {
+        Set<Category> categories = domainCategories != null ? domainCategories : Set.of();
+        Set<Long> wanted = categories.stream().map(Category::getId).collect(Collectors.toSet());
+        Set<CategoryEntity> current = entity.getCategories();
+        if (current == null) {
+            entity.setCategories(categoryReferences.resolve(categories));
+            return;
+        }
+        Set<Long> currentIds = current.stream().map(CategoryEntity::getId).collect(Collectors.toSet());
+        if (currentIds.equals(wanted)) {
+            return;
+        }
+        Set<Category> added = categories.stream()
+                .filter(category -> !currentIds.contains(category.getId()))
+                .collect(Collectors.toSet());
+        Set<CategoryEntity> addedReferences = categoryReferences.resolve(added);
+        current.removeIf(category -> !wanted.contains(category.getId()));
+        current.addAll(addedReferences);
+        // A collection change alone does not trigger @PreUpdate
+        entity.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static void requireField(Object value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException("Product " + field + " is required");
+        }
+    }
+
+    private static <T> void setIfChanged(T value, T current, Consumer<T> setter) {
+        if (!Objects.equals(value, current)) {
+            setter.accept(value);
+        }
+    }
+
+    private static void setIfChangedDecimal(BigDecimal value, BigDecimal current, Consumer<BigDecimal> setter) {
+        boolean same = value == null ? current == null : current != null && value.compareTo(current) == 0;
+        if (!same) {
+            setter.accept(value);
+        }
     }
 
     public ProductEntity toEntity(Product domain) {
         if (domain == null) return null;
         
-        return ProductEntity.builder()
+        MappingEvent event = MappingEvent.begin("ProductMapper", "toEntity", domain.getId());
+        return event.end(ProductEntity.builder()
                 .id(domain.getId())
                 .name(domain.getName())
                 .description(domain.getDescription())
                 .basePrice(domain.getBasePrice())
                 .currentPrice(domain.getCurrentPrice())
-                .categories(categoryMapper.toEntitySet(domain.getCategories()))
+                .categories(categoryReferences.resolve(domain.getCategories()))
                 .imageUrl(domain.getImageUrl())
                 .stockQuantity(domain.getStockQuantity())
                 .status(domain.getStatus())
@@ -48,6 +129,6 @@ public class ProductMapper {
                 .dimensions(domain.getDimensions())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
-                .build();
+                .build());
     }
 } 
@@ -0,0 +1,49 @@
+package com.ecommerce.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections of read-only transactions to a replica of the {@link ReplicaSet}
+ * that is caught up, round robin, and everything else to the primary. Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the
+ * lookup happens after the transaction's read-only flag has been bound.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaNames;
+    private final ReplicaSet replicaSet;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(ReplicaSet replicaSet) {
+        this.replicaNames = List.copyOf(replicaSet.getReplicas().keySet());
+        this.replicaSet = replicaSet;
+        Map<Object, Object> targets = new HashMap<>(replicaSet.getReplicas());
+        targets.put(PRIMARY, replicaSet.getPrimary());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(replicaSet.getPrimary());
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicaNames.size(), 1));
+        for (int i = 0; i < replicaNames.size(); i++) {
+            String replica = replicaNames.get((start + i) % replicaNames.size());
+            if (replicaSet.isCaughtUp(replica)) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+}
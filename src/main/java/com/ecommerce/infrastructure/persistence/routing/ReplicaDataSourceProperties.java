@@ -0,0 +1,30 @@
+package com.ecommerce.infrastructure.persistence.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas used when {@code catalog.datasource.routing.enabled} is set. The primary
+ * stays configured under {@code spring.datasource}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.datasource")
+public class ReplicaDataSourceProperties {
+    private List<Replica> replicas = new ArrayList<>();
+    private long maxReplicaLagMs = 5000;
+    private long heartbeatIntervalMs = 1000;
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
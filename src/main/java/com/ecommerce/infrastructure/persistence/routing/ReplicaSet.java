@@ -0,0 +1,74 @@
+package com.ecommerce.infrastructure.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The primary and its read replicas. Replica lag is measured with a heartbeat row: the
+ * primary's row is stamped on every check and each replica's copy is compared with the
+ * current time. A replica counts as caught up while its lag is within
+ * {@code maxLagMillis}, which should exceed the heartbeat interval. The
+ * {@code replica_heartbeat} table comes from the Flyway migrations, so it reaches the
+ * replicas through replication like the rest of the schema.
+ */
+@Slf4j
+public class ReplicaSet {
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+    private final long maxLagMillis;
+
+    public ReplicaSet(DataSource primary, Map<String, DataSource> replicas, long maxLagMillis) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public boolean isCaughtUp(String replica) {
+        Long lag = lagMillis.get(replica);
+        return lag != null && lag <= maxLagMillis;
+    }
+
+    /**
+     * Last measured lag, or {@code -1} when the replica could not be read.
+     */
+    public long getLagMillis(String replica) {
+        return lagMillis.getOrDefault(replica, -1L);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.datasource.heartbeat-interval-ms}")
+    public void check() {
+        long now = System.currentTimeMillis();
+        JdbcTemplate primary = new JdbcTemplate(this.primary);
+        if (primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+            primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", now);
+        }
+        replicas.forEach((name, replica) -> {
+            try {
+                Long beatAt = new JdbcTemplate(replica).queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+                long lag = beatAt != null ? Math.max(0, now - beatAt) : Long.MAX_VALUE;
+                Long previous = lagMillis.put(name, lag);
+                if (lag > maxLagMillis && (previous == null || previous <= maxLagMillis)) {
+                    log.warn("Replica {} lags {} ms behind the primary; routing its reads to the primary", name, lag);
+                }
+            } catch (RuntimeException e) {
+                if (lagMillis.remove(name) != null) {
+                    log.warn("Replica {} is unreachable; routing its reads to the primary: {}", name, e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.infrastructure.persistence.snapshot;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CatalogSnapshot {
+    private final long createdAtEpochMilli;
+    private final List<Category> categories;
+    private final List<Product> products;
+}
@@ -0,0 +1,267 @@
+package com.ecommerce.infrastructure.persistence.snapshot;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes the binary catalog snapshot.
+ *
+ * <p>Layout (big-endian): a fixed header of magic, format version, creation time,
+ * payload length and a CRC32 of the payload, followed by the category table and
+ * the product table. Products reference categories by id, so each category is
+ * stored once no matter how many products point at it.
+ */
+@Component
+public class CatalogSnapshotCodec {
+    static final int MAGIC = 0x43415453; // "CATS"
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private static final int NULL_LENGTH = -1;
+
+    public void write(CatalogSnapshot snapshot, Path path) throws IOException {
+        byte[] payload = encodePayload(snapshot);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putLong(snapshot.getCreatedAtEpochMilli())
+                .putInt(payload.length)
+                .putLong(crc.getValue())
+                .flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(new ByteBuffer[] { header, ByteBuffer.wrap(payload) });
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public CatalogSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new CatalogSnapshotException("Snapshot is truncated: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new CatalogSnapshotException("Not a catalog snapshot: " + path);
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new CatalogSnapshotException("Unsupported snapshot format version " + version + ": " + path);
+            }
+            long createdAt = buffer.getLong();
+            int payloadLength = buffer.getInt();
+            long expectedCrc = buffer.getLong();
+            if (payloadLength != size - HEADER_SIZE) {
+                throw new CatalogSnapshotException("Snapshot payload length mismatch: " + path);
+            }
+
+            ByteBuffer payload = buffer.slice(HEADER_SIZE, payloadLength);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != expectedCrc) {
+                throw new CatalogSnapshotException("Snapshot checksum mismatch: " + path);
+            }
+            return decodePayload(createdAt, payload);
+        }
+    }
+
+    private byte[] encodePayload(CatalogSnapshot snapshot) throws IOException {
+        Map<Long, Category> categories = new LinkedHashMap<>();
+        snapshot.getCategories().forEach(category -> collectCategory(category, categories));
+        snapshot.getProducts().stream()
+                .filter(product -> product.getCategories() != null)
+                .flatMap(product -> product.getCategories().stream())
+                .forEach(category -> collectCategory(category, categories));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * (categories.size() + snapshot.getProducts().size()));
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(categories.size());
+        for (Category category : categories.values()) {
+            out.writeLong(category.getId());
+            writeString(out, category.getName());
+            writeString(out, category.getDescription());
+            Category parent = category.getParentCategory();
+            out.writeBoolean(parent != null);
+            if (parent != null) {
+                out.writeLong(parent.getId());
+            }
+        }
+
+        out.writeInt(snapshot.getProducts().size());
+        for (Product product : snapshot.getProducts()) {
+            out.writeLong(product.getId());
+            writeString(out, product.getName());
+            writeString(out, product.getDescription());
+            writeDecimal(out, product.getBasePrice());
+            writeDecimal(out, product.getCurrentPrice());
+            if (product.getCategories() == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                out.writeInt(product.getCategories().size());
+                for (Category category : product.getCategories()) {
+                    out.writeLong(category.getId());
+                }
+            }
+            writeString(out, product.getImageUrl());
+            out.writeBoolean(product.getStockQuantity() != null);
+            if (product.getStockQuantity() != null) {
+                out.writeInt(product.getStockQuantity());
+            }
+            writeString(out, product.getStatus() != null ? product.getStatus().name() : null);
+            writeDecimal(out, product.getWeight());
+            writeDecimal(out, product.getDimensions());
+            writeTimestamp(out, product.getCreatedAt());
+            writeTimestamp(out, product.getUpdatedAt());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private CatalogSnapshot decodePayload(long createdAt, ByteBuffer in) {
+        int categoryCount = in.getInt();
+        Map<Long, Category> categories = new LinkedHashMap<>(categoryCount * 2);
+        Map<Long, Long> parentIds = new HashMap<>();
+        for (int i = 0; i < categoryCount; i++) {
+            Category category = Category.builder()
+                    .id(in.getLong())
+                    .name(readString(in))
+                    .description(readString(in))
+                    .build();
+            if (in.get() != 0) {
+                parentIds.put(category.getId(), in.getLong());
+            }
+            categories.put(category.getId(), category);
+        }
+        parentIds.forEach((id, parentId) -> categories.get(id).setParentCategory(categories.get(parentId)));
+
+        int productCount = in.getInt();
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            Product.ProductBuilder builder = Product.builder()
+                    .id(in.getLong())
+                    .name(readString(in))
+                    .description(readString(in))
+                    .basePrice(readDecimal(in))
+                    .currentPrice(readDecimal(in));
+            int productCategoryCount = in.getInt();
+            if (productCategoryCount != NULL_LENGTH) {
+                Set<Category> productCategories = new HashSet<>(productCategoryCount * 2);
+                for (int j = 0; j < productCategoryCount; j++) {
+                    productCategories.add(categories.get(in.getLong()));
+                }
+                builder.categories(productCategories);
+            }
+            builder.imageUrl(readString(in));
+            if (in.get() != 0) {
+                builder.stockQuantity(in.getInt());
+            }
+            String status = readString(in);
+            products.add(builder
+                    .status(status != null ? ProductStatus.valueOf(status) : null)
+                    .weight(readDecimal(in))
+                    .dimensions(readDecimal(in))
+                    .createdAt(readTimestamp(in))
+                    .updatedAt(readTimestamp(in))
+                    .build());
+        }
+        return new CatalogSnapshot(createdAt, new ArrayList<>(categories.values()), products);
+    }
+
+    private void collectCategory(Category category, Map<Long, Category> categories) {
+        while (category != null && !categories.containsKey(category.getId())) {
+            categories.put(category.getId(), category);
+            category = category.getParentCategory();
+        }
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_LENGTH);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeShort(unscaled.length);
+        out.write(unscaled);
+        out.writeInt(value.scale());
+    }
+
+    private BigDecimal readDecimal(ByteBuffer in) {
+        int length = in.getShort();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] unscaled = new byte[length];
+        in.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), in.getInt());
+    }
+
+    private void writeTimestamp(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private LocalDateTime readTimestamp(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecommerce.infrastructure.persistence.snapshot;
+
+public class CatalogSnapshotException extends RuntimeException {
+    public CatalogSnapshotException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,152 @@
+package com.ecommerce.infrastructure.web.cache;
+
+import com.ecommerce.application.cache.CatalogVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the encoded bodies of successful GET responses, keyed by path, query parameters
+ * and {@code Accept} header, and replays them while the {@link CatalogVersion} is
+ * unchanged. Bodies of at least {@code gzipMinSize} bytes are also kept gzip-encoded and
+ * sent as such to clients that accept it. Entries from older versions are ignored. When
+ * the cache is full they are dropped first, then the least recently served entry.
+ */
+public class ResponseBodyCacheFilter extends OncePerRequestFilter {
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final CatalogVersion catalogVersion;
+    private final int maxEntries;
+    private final int gzipMinSize;
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseBodyCacheFilter(CatalogVersion catalogVersion, int maxEntries, int gzipMinSize,
+                                   MeterRegistry meterRegistry) {
+        this.catalogVersion = catalogVersion;
+        this.maxEntries = maxEntries;
+        this.gzipMinSize = gzipMinSize;
+        this.hits = meterRegistry.counter("http.response_cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("http.response_cache.requests", "result", "miss");
+        meterRegistry.gaugeMapSize("http.response_cache.size", Tags.empty(), bodies);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = key(request);
+        long version = catalogVersion.get();
+        CachedBody cached = bodies.get(key);
+        if (cached != null && cached.version == version) {
+            hits.increment();
+            cached.lastServed = clock.incrementAndGet();
+            write(cached, acceptsGzip(request), response);
+            return;
+        }
+        misses.increment();
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentType() != null
+                && catalogVersion.get() == version) {
+            store(key, new CachedBody(version, wrapper.getContentType(), wrapper.getContentAsByteArray(),
+                    gzip(wrapper.getContentAsByteArray())));
+            response.setHeader(HttpHeaders.VARY, VARY);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void store(String key, CachedBody body) {
+        body.lastServed = clock.incrementAndGet();
+        if (bodies.size() >= maxEntries && !bodies.containsKey(key)) {
+            bodies.values().removeIf(cached -> cached.version != body.version);
+            while (bodies.size() >= maxEntries) {
+                evictLeastRecentlyServed();
+            }
+        }
+        bodies.put(key, body);
+    }
+
+    /**
+     * A scan over at most {@code maxEntries} entries, paid only by a miss on a full cache,
+     * so that hits stay lock-free.
+     */
+    private void evictLeastRecentlyServed() {
+        bodies.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastServed))
+                .ifPresent(entry -> bodies.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private static void write(CachedBody cached, boolean gzip, HttpServletResponse response) throws IOException {
+        boolean sendGzipped = gzip && cached.gzipped != null;
+        byte[] body = sendGzipped ? cached.gzipped : cached.body;
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType);
+        response.setHeader(HttpHeaders.VARY, VARY);
+        if (sendGzipped) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        if (body.length < gzipMinSize) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                key.append('&').append(name).append('=').append(String.join(",", values)));
+        return key.append('|').append(Objects.toString(request.getHeader(HttpHeaders.ACCEPT), "")).toString();
+    }
+
+    private static final class CachedBody {
+        private final long version;
+        private final String contentType;
+        private final byte[] body;
+        private final byte[] gzipped;
+        private volatile long lastServed;
+
+        private CachedBody(long version, String contentType, byte[] body, byte[] gzipped) {
+            this.version = version;
+            this.contentType = contentType;
+            this.body = body;
+            this.gzipped = gzipped;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.infrastructure.web.controller;
+
+import com.ecommerce.application.analytics.SalesRollups;
+import com.ecommerce.domain.model.RollupGranularity;
+import com.ecommerce.domain.model.SalesDimension;
+import com.ecommerce.domain.model.SalesRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class AdminAnalyticsController {
+    private static final int DEFAULT_WINDOWS = 24;
+
+    private final SalesRollups salesRollups;
+
+    /**
+     * Sales per window in {@code [from, to)}; by default the last 24 windows up to now.
+     */
+    @GetMapping("/sales")
+    public ResponseEntity<List<SalesRollup>> getSales(
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam(defaultValue = "CATEGORY") SalesDimension dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : granularity == RollupGranularity.HOUR
+                ? end.minusHours(DEFAULT_WINDOWS) : end.minusDays(DEFAULT_WINDOWS);
+        if (!start.isBefore(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(salesRollups.query(granularity, dimension, start, end));
+    }
+}
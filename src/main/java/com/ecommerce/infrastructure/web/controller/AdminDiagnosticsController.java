@@ -0,0 +1,33 @@
+package com.ecommerce.infrastructure.web.controller;
+
+import com.ecommerce.infrastructure.persistence.diagnostics.SlowQuery;
+import com.ecommerce.infrastructure.persistence.diagnostics.SlowQueryRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/diagnostics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalog.slow-query.enabled", havingValue = "true")
+public class AdminDiagnosticsController {
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @GetMapping("/slow-queries")
+    public ResponseEntity<List<SlowQuery>> getSlowQueries(
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(slowQueryRecorder.top(limit));
+    }
+
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> resetSlowQueries() {
+        slowQueryRecorder.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,9 +1,15 @@
 package com.ecommerce.infrastructure.web.controller;
 
+import com.ecommerce.application.service.BulkDeleteResult;
 import com.ecommerce.application.service.ProductManagementService;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.web.serialization.JsonMergePatch;
+import com.ecommerce.infrastructure.web.serialization.ProductMixin;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ecommerce.domain.model.ProductSelection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,16 +20,35 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminProductController {
     private final ProductManagementService productService;
+    private final JsonMergePatch jsonMergePatch;
 
     @PostMapping
     public ResponseEntity<Product> createProduct(@RequestBody Product product) {
-        return new ResponseEntity<>(productService.createProduct(product), HttpStatus.CREATED);
+        try {
+            return new ResponseEntity<>(productService.createProduct(product), HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
         try {
             return ResponseEntity.ok(productService.updateProduct(id, product));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PatchMapping(value = "/{id}", consumes = { JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Product> patchProduct(@PathVariable Long id, @RequestBody JsonNode patch) {
+        try {
+            return ResponseEntity.ok(productService.patchProduct(id,
+                    product -> jsonMergePatch.apply(product, patch, Product.class, ProductMixin.REQUIRED)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -35,6 +60,19 @@ public class AdminProductController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Discontinues the selected products, or deletes them with {@code hard=true}.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResult> deleteProducts(@RequestBody ProductSelection selection,
+                                                           @RequestParam(defaultValue = "false") boolean hard) {
+        try {
+            return ResponseEntity.ok(productService.deleteProducts(selection, hard));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping
     public ResponseEntity<List<Product>> getAllProducts() {
         return ResponseEntity.ok(productService.getAllProducts());
@@ -50,10 +88,10 @@ public class AdminProductController {
     @PatchMapping("/{id}/stock")
     public ResponseEntity<Product> updateProductStock(@PathVariable Long id, @RequestParam Integer quantity) {
         try {
-            Product product = productService.getProductById(id)
-                    .orElseThrow(() -> new RuntimeException("Product not found"));
-            product.setStockQuantity(quantity);
-            return ResponseEntity.ok(productService.updateProduct(id, product));
+            return ResponseEntity.ok(productService.patchProduct(id, product -> {
+                product.setStockQuantity(quantity);
+                return product;
+            }));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -1,5 +1,8 @@
 package com.ecommerce.infrastructure.web.controller;
 
+import com.ecommerce.application.search.SearchMode;
+import com.ecommerce.application.search.Suggestion;
+import com.ecommerce.application.service.AutocompleteService;
 import com.ecommerce.application.service.CatalogBrowsingService;
 import com.ecommerce.domain.model.Product;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +16,10 @@ import java.util.List;
 @RequestMapping("/api/catalog")
 @RequiredArgsConstructor
 public class CatalogController {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CatalogBrowsingService catalogService;
+    private final AutocompleteService autocompleteService;
 
     @GetMapping
     public ResponseEntity<List<Product>> getAllProducts() {
@@ -26,8 +32,23 @@ public class CatalogController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Product>> searchProducts(@RequestParam String keyword) {
-        return ResponseEntity.ok(catalogService.searchProducts(keyword));
+    public ResponseEntity<List<Product>> searchProducts(
+            @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "EXACT") SearchMode mode,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(catalogService.searchProducts(keyword, mode, page, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<Suggestion>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(autocompleteService.complete(prefix,
+                Math.min(limit, autocompleteService.getMaxSuggestions())));
     }
 
     @GetMapping("/sort/price-asc")
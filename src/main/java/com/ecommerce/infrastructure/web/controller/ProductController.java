@@ -1,9 +1,15 @@
 package com.ecommerce.infrastructure.web.controller;
 
+import com.ecommerce.application.service.AutocompleteService;
 import com.ecommerce.application.service.ProductManagementService;
+import com.ecommerce.application.service.RecommendationService;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.web.serialization.JsonMergePatch;
+import com.ecommerce.infrastructure.web.serialization.ProductMixin;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,16 +20,37 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductManagementService productService;
+    private final JsonMergePatch jsonMergePatch;
+    private final AutocompleteService autocompleteService;
+    private final RecommendationService recommendationService;
 
     @PostMapping
     public ResponseEntity<Product> createProduct(@RequestBody Product product) {
-        return new ResponseEntity<>(productService.createProduct(product), HttpStatus.CREATED);
+        try {
+            return new ResponseEntity<>(productService.createProduct(product), HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
         try {
             return ResponseEntity.ok(productService.updateProduct(id, product));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PatchMapping(value = "/{id}", consumes = { JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Product> patchProduct(@PathVariable Long id, @RequestBody JsonNode patch) {
+        try {
+            return ResponseEntity.ok(productService.patchProduct(id,
+                    product -> jsonMergePatch.apply(product, patch, Product.class, ProductMixin.REQUIRED)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -43,10 +70,23 @@ public class ProductController {
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
         return productService.getProductById(id)
-                .map(ResponseEntity::ok)
+                .map(product -> {
+                    autocompleteService.recordView(id);
+                    return ResponseEntity.ok(product);
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<Product>> getRelatedProducts(@PathVariable Long id,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(recommendationService.getRelatedProducts(id,
+                Math.min(limit, recommendationService.getNeighboursPerProduct())));
+    }
+
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable Long categoryId) {
         return ResponseEntity.ok(productService.getProductsByCategory(categoryId));
@@ -0,0 +1,80 @@
+package com.ecommerce.infrastructure.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient concurrency limit driven by latency. A fast and a slow moving average of
+ * request latency are kept; while the fast one stays within {@code tolerance} times the
+ * slow one the limit grows by about its square root per sample (only when at least
+ * half of it is in use), and beyond that it shrinks in proportion to the ratio, never
+ * below half per step. {@code smoothing} damps each adjustment.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double SHORT_WINDOW_WEIGHT = 0.1;
+    private static final double LONG_WINDOW_WEIGHT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortLatencyNanos = Double.NaN;
+    private double longLatencyNanos = Double.NaN;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double smoothing) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Takes a slot, or returns {@code false} without waiting when the limit is reached.
+     * Every successful call must be paired with {@link #release}.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release(long latencyNanos) {
+        int used = inFlight.getAndDecrement();
+        onSample(latencyNanos, used);
+    }
+
+    private synchronized void onSample(long latencyNanos, int used) {
+        if (Double.isNaN(longLatencyNanos)) {
+            shortLatencyNanos = latencyNanos;
+            longLatencyNanos = latencyNanos;
+            return;
+        }
+        shortLatencyNanos += (latencyNanos - shortLatencyNanos) * SHORT_WINDOW_WEIGHT;
+        longLatencyNanos += (latencyNanos - longLatencyNanos) * LONG_WINDOW_WEIGHT;
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatencyNanos / shortLatencyNanos));
+        if (gradient == 1.0 && used * 2 < (int) limit) {
+            return;
+        }
+        double target = limit * gradient + (gradient == 1.0 ? Math.sqrt(limit) : 0);
+        double smoothed = limit * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ecommerce.infrastructure.web.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Puts admin, catalog and search traffic behind separate {@link AdaptiveConcurrencyLimiter}s.
+ * A request over its group's limit is answered with {@code 503} and {@code Retry-After}
+ * immediately instead of waiting for a database connection.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public enum TrafficGroup {
+        ADMIN, CATALOG, SEARCH
+    }
+
+    private final Map<TrafficGroup, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(TrafficGroup.class);
+    private final Map<TrafficGroup, Counter> rejections = new EnumMap<>(TrafficGroup.class);
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        limiters.put(TrafficGroup.ADMIN, limiter(properties.getAdmin(), properties));
+        limiters.put(TrafficGroup.CATALOG, limiter(properties.getCatalog(), properties));
+        limiters.put(TrafficGroup.SEARCH, limiter(properties.getSearch(), properties));
+        this.retryAfterSeconds = String.valueOf(properties.getRetryAfterSeconds());
+        limiters.forEach((group, limiter) -> {
+            Tags tags = Tags.of("group", group.name().toLowerCase());
+            meterRegistry.gauge("http.concurrency.limit", tags, limiter, AdaptiveConcurrencyLimiter::getLimit);
+            meterRegistry.gauge("http.concurrency.in_flight", tags, limiter, AdaptiveConcurrencyLimiter::getInFlight);
+            rejections.put(group, meterRegistry.counter("http.concurrency.rejected", tags));
+        });
+    }
+
+    public static TrafficGroup classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/admin/")) {
+            return TrafficGroup.ADMIN;
+        }
+        boolean catalog = path.startsWith("/api/catalog");
+        boolean products = path.startsWith("/api/products");
+        if (products && !HttpMethod.GET.matches(request.getMethod())) {
+            return TrafficGroup.ADMIN;
+        }
+        if (catalog || products) {
+            return path.contains("/search") || path.contains("/autocomplete") ? TrafficGroup.SEARCH : TrafficGroup.CATALOG;
+        }
+        return null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TrafficGroup group = classify(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        AdaptiveConcurrencyLimiter limiter = limiters.get(group);
+        if (!limiter.tryAcquire()) {
+            rejections.get(group).increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(ConcurrencyLimitProperties.Group group,
+                                                      ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit(),
+                properties.getLatencyTolerance(), properties.getSmoothing());
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.infrastructure.web.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private double latencyTolerance = 2.0;
+    private double smoothing = 0.2;
+    private int retryAfterSeconds = 1;
+    private Group admin = new Group();
+    private Group catalog = new Group();
+    private Group search = new Group();
+
+    @Getter
+    @Setter
+    public static class Group {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.infrastructure.web.serialization;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.Set;
+
+/**
+ * Wire names and order of {@link Category} fields, shared by every response format.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({ "id", "name", "description", "parentCategory", "products" })
+public abstract class CategoryMixin {
+    @JsonProperty("id") abstract Long getId();
+    @JsonProperty("name") abstract String getName();
+    @JsonProperty("description") abstract String getDescription();
+    @JsonProperty("parentCategory") abstract Category getParentCategory();
+    @JsonProperty("products") abstract Set<Product> getProducts();
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.infrastructure.web.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON Merge Patch (RFC 7386): members of the patch replace those of the target, a
+ * {@code null} member removes one, nested objects are merged recursively and anything
+ * else, arrays included, is replaced whole. Targets go through the application's
+ * {@link ObjectMapper}, so the patch uses the same field names as responses.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonMergePatch {
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+
+    public static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject() ? ((ObjectNode) target).deepCopy()
+                : ((ObjectNode) patch).objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), merge(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A new {@code type} with {@code patch} merged into {@code target}; {@code target} is
+     * left unchanged. Throws {@link IllegalArgumentException} when the patch is not an
+     * object or its values do not fit the fields.
+     */
+    public <T> T apply(T target, JsonNode patch, Class<T> type) {
+        return apply(target, patch, type, Set.of());
+    }
+
+    /**
+     * Like {@link #apply(Object, JsonNode, Class)}, but also throws
+     * {@link IllegalArgumentException} when the patch removes one of the top-level
+     * {@code required} members.
+     */
+    public <T> T apply(T target, JsonNode patch, Class<T> type, Set<String> required) {
+        if (!patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        for (String member : required) {
+            if (patch.path(member).isNull()) {
+                throw new IllegalArgumentException("Merge patch cannot remove required member " + member);
+            }
+        }
+        try {
+            return objectMapper.treeToValue(merge(objectMapper.valueToTree(target), patch), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Merge patch does not fit " + type.getSimpleName(), e);
+        }
+    }
+}
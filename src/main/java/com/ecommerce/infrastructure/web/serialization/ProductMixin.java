@@ -0,0 +1,39 @@
+package com.ecommerce.infrastructure.web.serialization;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.ProductStatus;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Wire names and order of {@link com.ecommerce.domain.model.Product} fields, shared by
+ * every response format. Renaming a domain field must not change these.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({ "id", "name", "description", "basePrice", "currentPrice", "categories", "imageUrl",
+        "stockQuantity", "status", "weight", "dimensions", "createdAt", "updatedAt" })
+public abstract class ProductMixin {
+    /**
+     * Members a merge patch may not remove: their columns are {@code NOT NULL}.
+     */
+    public static final Set<String> REQUIRED = Set.of("name", "basePrice", "currentPrice", "stockQuantity", "status");
+
+    @JsonProperty("id") abstract Long getId();
+    @JsonProperty("name") abstract String getName();
+    @JsonProperty("description") abstract String getDescription();
+    @JsonProperty("basePrice") abstract BigDecimal getBasePrice();
+    @JsonProperty("currentPrice") abstract BigDecimal getCurrentPrice();
+    @JsonProperty("categories") abstract Set<Category> getCategories();
+    @JsonProperty("imageUrl") abstract String getImageUrl();
+    @JsonProperty("stockQuantity") abstract Integer getStockQuantity();
+    @JsonProperty("status") abstract ProductStatus getStatus();
+    @JsonProperty("weight") abstract BigDecimal getWeight();
+    @JsonProperty("dimensions") abstract BigDecimal getDimensions();
+    @JsonProperty("createdAt") abstract LocalDateTime getCreatedAt();
+    @JsonProperty("updatedAt") abstract LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,7 @@
+-- H2 native full-text index over product names and descriptions, used by the "fulltext"
+-- profile. FT_CREATE_INDEX indexes the existing rows and installs triggers that keep the
+-- index in step with every insert, update and delete in the writing transaction.
+CREATE ALIAS IF NOT EXISTS FT_INIT FOR 'org.h2.fulltext.FullText.init';
+CALL FT_INIT();
+CALL FT_DROP_INDEX('PUBLIC', 'PRODUCTS');
+CALL FT_CREATE_INDEX('PUBLIC', 'PRODUCTS', 'NAME,DESCRIPTION');
@@ -0,0 +1,34 @@
+-- Baseline: the schema Hibernate generated with ddl-auto=update. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and start from V2.
+
+CREATE TABLE categories (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name               VARCHAR(255) NOT NULL,
+    description        VARCHAR(1000),
+    parent_category_id BIGINT,
+    CONSTRAINT fk_categories_parent FOREIGN KEY (parent_category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE products (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           VARCHAR(255)   NOT NULL,
+    description    TEXT,
+    base_price     NUMERIC(38, 2) NOT NULL,
+    current_price  NUMERIC(38, 2) NOT NULL,
+    stock_quantity INTEGER        NOT NULL,
+    status         VARCHAR(255)   NOT NULL,
+    image_url      VARCHAR(255),
+    weight         NUMERIC(38, 2),
+    dimensions     NUMERIC(38, 2),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT ck_products_status CHECK (status IN ('ACTIVE', 'DISCONTINUED', 'OUT_OF_STOCK'))
+);
+
+CREATE TABLE product_categories (
+    product_id  BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    PRIMARY KEY (product_id, category_id),
+    CONSTRAINT fk_product_categories_product FOREIGN KEY (product_id) REFERENCES products (id),
+    CONSTRAINT fk_product_categories_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
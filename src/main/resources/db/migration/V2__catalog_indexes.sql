@@ -0,0 +1,21 @@
+-- Indexes for the catalog access paths. The primary key of product_categories already
+-- serves "categories of a product"; category browsing needs the reverse direction.
+
+-- Lower-cased name maintained by ProductEntity, so case-insensitive name matching does
+-- not apply LOWER() to every row and prefix matches can seek.
+ALTER TABLE products ADD COLUMN name_lower VARCHAR(255);
+UPDATE products SET name_lower = LOWER(name);
+ALTER TABLE products ALTER COLUMN name_lower SET NOT NULL;
+
+-- Active products by price (filters and price sorts), carrying the id for the row lookup.
+CREATE INDEX idx_products_status_price ON products (status, current_price, id);
+
+-- Recently changed products (snapshot refresh, purging of old discontinued products).
+CREATE INDEX idx_products_status_updated ON products (status, updated_at);
+CREATE INDEX idx_products_updated_at ON products (updated_at);
+
+CREATE INDEX idx_products_name_lower ON products (name_lower);
+
+CREATE INDEX idx_product_categories_category ON product_categories (category_id, product_id);
+
+CREATE INDEX idx_categories_parent ON categories (parent_category_id);
@@ -0,0 +1,44 @@
+-- Customer order history. Orders are only read per customer, newest first, so
+-- idx_orders_customer_date keeps each customer's history contiguous and in that order:
+-- a page (keyset on order_date, id) or a month is one range seek with no sort.
+-- H2 has no table partitioning; on a database that has it, orders would be
+-- range-partitioned by order_date with the same index local to each partition.
+
+CREATE TABLE orders (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id          BIGINT         NOT NULL,
+    order_date           TIMESTAMP(6)   NOT NULL,
+    status               VARCHAR(255)   NOT NULL,
+    payment_method       VARCHAR(255),
+    shipping_street      VARCHAR(255),
+    shipping_city        VARCHAR(255),
+    shipping_state       VARCHAR(255),
+    shipping_country     VARCHAR(255),
+    shipping_zip_code    VARCHAR(255),
+    billing_street       VARCHAR(255),
+    billing_city         VARCHAR(255),
+    billing_state        VARCHAR(255),
+    billing_country      VARCHAR(255),
+    billing_zip_code     VARCHAR(255),
+    subtotal             NUMERIC(38, 2),
+    shipping_cost        NUMERIC(38, 2),
+    tax_amount           NUMERIC(38, 2),
+    discount_amount      NUMERIC(38, 2),
+    total_price          NUMERIC(38, 2) NOT NULL,
+    tracking_information VARCHAR(255),
+    CONSTRAINT ck_orders_status CHECK (status IN ('PENDING', 'PAID', 'PROCESSING', 'SHIPPED', 'DELIVERED', 'RETURNED')),
+    CONSTRAINT ck_orders_payment_method CHECK (payment_method IN ('CREDIT_CARD', 'PAYPAL', 'BANK_TRANSFER'))
+);
+
+CREATE INDEX idx_orders_customer_date ON orders (customer_id, order_date DESC, id DESC);
+
+-- No foreign key to products: history keeps the ids of products purged since
+CREATE TABLE order_items (
+    order_id          BIGINT         NOT NULL,
+    line_number       INTEGER        NOT NULL,
+    product_id        BIGINT,
+    quantity          INTEGER        NOT NULL,
+    price_at_purchase NUMERIC(38, 2) NOT NULL,
+    PRIMARY KEY (order_id, line_number),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
@@ -0,0 +1,14 @@
+-- Windowed sales totals kept in memory by SalesRollups and written here periodically.
+-- Rows hold absolute totals and are upserted on the primary key.
+
+CREATE TABLE sales_rollups (
+    granularity   VARCHAR(16)    NOT NULL,
+    dimension     VARCHAR(32)    NOT NULL,
+    dimension_key VARCHAR(64)    NOT NULL,
+    window_start  TIMESTAMP(6)   NOT NULL,
+    units         BIGINT         NOT NULL,
+    revenue       NUMERIC(38, 2) NOT NULL,
+    PRIMARY KEY (granularity, dimension, dimension_key, window_start)
+);
+
+CREATE INDEX idx_sales_rollups_window ON sales_rollups (window_start);
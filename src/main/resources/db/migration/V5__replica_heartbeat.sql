@@ -0,0 +1,8 @@
+-- Heartbeat row stamped on the primary by ReplicaSet; each replica's copy tells how far
+-- it lags behind. Created here rather than at startup so that Flyway sees an empty
+-- schema on a fresh database and applies V1 instead of baselining over it.
+
+CREATE TABLE replica_heartbeat (
+    id      INT    PRIMARY KEY,
+    beat_at BIGINT NOT NULL
+);
@@ -0,0 +1,172 @@
+package com.ecommerce.application.analytics;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.MembershipTier;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.RollupGranularity;
+import com.ecommerce.domain.model.SalesDimension;
+import com.ecommerce.domain.model.SalesRollup;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.domain.port.SalesRollupStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupsTest {
+    private static final LocalDateTime HOUR = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+    private static final LocalDateTime NOW = HOUR.plusMinutes(30);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private SalesRollupStore store;
+
+    private SalesRollups salesRollups;
+
+    @BeforeEach
+    void setUp() {
+        salesRollups = new SalesRollups(productRepository, store, new SimpleMeterRegistry(), 72, 400);
+        Category phones = Category.builder().id(1L).name("Phones").build();
+        Category gifts = Category.builder().id(2L).name("Gifts").build();
+        when(productRepository.findAllById(any())).thenReturn(List.of(
+                Product.builder().id(10L).categories(Set.of(phones, gifts)).build(),
+                Product.builder().id(20L).categories(Set.of(phones)).build()));
+    }
+
+    @Test
+    void record_shouldAddItemsToTheirCategoriesAndTierInEachWindow() {
+        // Act
+        salesRollups.record(order(NOW, MembershipTier.VIP));
+        salesRollups.record(order(NOW.minusHours(1), MembershipTier.BASIC));
+
+        // Assert
+        List<SalesRollup> hourly = salesRollups.query(RollupGranularity.HOUR, SalesDimension.CATEGORY,
+                HOUR.minusHours(1), HOUR.plusHours(1));
+        assertEquals(4, hourly.size());
+        SalesRollup phones = hourly.get(2);
+        assertEquals("1", phones.getKey());
+        assertEquals(HOUR, phones.getWindowStart());
+        assertEquals(3, phones.getUnits());
+        assertEquals(0, new BigDecimal("250.00").compareTo(phones.getRevenue()));
+
+        List<SalesRollup> daily = salesRollups.query(RollupGranularity.DAY, SalesDimension.MEMBERSHIP_TIER,
+                NOW.minusDays(2), NOW.plusDays(1));
+        assertEquals(6, daily.stream().mapToLong(SalesRollup::getUnits).sum());
+        assertTrue(daily.stream().anyMatch(rollup -> rollup.getKey().equals("VIP") && rollup.getUnits() == 3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldWriteOnlyTheIncrementsRecordedSinceTheLastFlush() {
+        // Arrange
+        salesRollups.record(order(NOW, MembershipTier.PREMIUM));
+        salesRollups.flush();
+        salesRollups.record(order(NOW, MembershipTier.PREMIUM));
+
+        // Act
+        salesRollups.flush();
+
+        // Assert
+        ArgumentCaptor<Collection<SalesRollup>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(store, times(2)).addAll(written.capture());
+        // 2 categories + 1 tier, hourly and daily
+        assertEquals(6, written.getAllValues().get(0).size());
+        assertEquals(6, written.getAllValues().get(1).size());
+        assertTrue(written.getAllValues().get(1).stream()
+                .filter(rollup -> rollup.getDimension() == SalesDimension.MEMBERSHIP_TIER)
+                .allMatch(rollup -> rollup.getUnits() == 3));
+    }
+
+    @Test
+    void flush_shouldRetryCellsWhoseWriteFailed() {
+        // Arrange
+        salesRollups.record(order(NOW, MembershipTier.BASIC));
+        doThrow(new IllegalStateException("down")).doNothing().when(store).addAll(any());
+
+        // Act
+        salesRollups.flush();
+        salesRollups.flush();
+        salesRollups.flush();
+
+        // Assert
+        verify(store, times(2)).addAll(any());
+    }
+
+    @Test
+    void reload_shouldAddStoredTotalsToThoseRecordedSinceStartup() {
+        // Arrange
+        stored(new SalesRollup(RollupGranularity.HOUR, SalesDimension.MEMBERSHIP_TIER, "VIP", HOUR, 5,
+                new BigDecimal("500.00")));
+        salesRollups.record(order(NOW, MembershipTier.VIP));
+
+        // Act
+        salesRollups.reload();
+
+        // Assert
+        SalesRollup vip = salesRollups.query(RollupGranularity.HOUR, SalesDimension.MEMBERSHIP_TIER, HOUR,
+                HOUR.plusHours(1)).get(0);
+        assertEquals(8, vip.getUnits());
+        assertEquals(0, new BigDecimal("750.00").compareTo(vip.getRevenue()));
+    }
+
+    @Test
+    void flush_shouldPickUpTotalsOtherNodesAddedToTheStore() {
+        // Arrange: this node's 3 units were flushed, another node has since added 4
+        salesRollups.record(order(NOW, MembershipTier.VIP));
+        stored(new SalesRollup(RollupGranularity.HOUR, SalesDimension.MEMBERSHIP_TIER, "VIP", HOUR, 7,
+                new BigDecimal("700.00")));
+
+        // Act
+        salesRollups.flush();
+
+        // Assert
+        SalesRollup vip = salesRollups.query(RollupGranularity.HOUR, SalesDimension.MEMBERSHIP_TIER, HOUR,
+                HOUR.plusHours(1)).get(0);
+        assertEquals(7, vip.getUnits());
+        assertEquals(0, new BigDecimal("700.00").compareTo(vip.getRevenue()));
+    }
+
+    private void stored(SalesRollup rollup) {
+        when(store.findSince(any(), any())).thenAnswer(invocation ->
+                invocation.getArgument(0) == rollup.getGranularity() ? List.of(rollup) : List.of());
+    }
+
+    private static Order order(LocalDateTime placed, MembershipTier tier) {
+        return Order.builder()
+                .customer(Customer.builder().id(1L).membershipTier(tier).build())
+                .orderDate(placed)
+                .orderItems(List.of(
+                        item(10L, 1, "150.00"),
+                        item(20L, 2, "50.00")))
+                .build();
+    }
+
+    private static OrderItem item(Long productId, int quantity, String price) {
+        return OrderItem.builder()
+                .product(Product.builder().id(productId).build())
+                .quantity(quantity)
+                .priceAtPurchase(new BigDecimal(price))
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ecommerce.application.cache;
+
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.cache.LoopbackInvalidationTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductNearCacheTest {
+
+    private LoopbackInvalidationTransport transport;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductNearCache nodeA;
+    private ProductNearCache nodeB;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        transport = new LoopbackInvalidationTransport();
+        meterRegistry = new SimpleMeterRegistry();
+        nodeA = new ProductNearCache(transport, new CatalogNode(), meterRegistry, 60_000, 10, 10);
+        nodeB = new ProductNearCache(transport, new CatalogNode(), new SimpleMeterRegistry(), 60_000, 10, 10);
+        nodeA.subscribe();
+        nodeB.subscribe();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getProduct_shouldServeRepeatedReadsFromCache() {
+        // Act
+        nodeA.getProduct(1L, this::load);
+        Optional<Product> cached = nodeA.getProduct(1L, this::load);
+
+        // Assert
+        assertEquals("Product 1", cached.orElseThrow().getName());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.counter("catalog.near_cache.requests", "result", "hit").count());
+    }
+
+    @Test
+    void onProductChanged_shouldInvalidateOtherNodes() {
+        // Arrange
+        nodeA.getProduct(1L, this::load);
+        nodeA.getQuery("active", () -> List.of(product(1L)));
+
+        // Act
+        nodeB.onProductChanged(ProductChangedEvent.deleted(1L));
+        nodeA.getProduct(1L, this::load);
+        List<Product> reloaded = nodeA.getQuery("active", List::of);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertTrue(reloaded.isEmpty());
+        assertEquals(1, meterRegistry.timer("catalog.near_cache.invalidation_lag").count());
+    }
+
+    @Test
+    void getProduct_shouldReloadAfterTtl() throws InterruptedException {
+        // Arrange
+        ProductNearCache shortLived = new ProductNearCache(transport, new CatalogNode(), new SimpleMeterRegistry(), 1, 10, 10);
+        shortLived.getProduct(1L, this::load);
+
+        // Act
+        Thread.sleep(5);
+        shortLived.getProduct(1L, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getQuery_shouldNotCacheBeyondMaxQueries() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            nodeA.getQuery("search:" + i, List::of);
+        }
+
+        // Act
+        nodeA.getQuery("search:overflow", () -> List.of(load(1L).orElseThrow()));
+        nodeA.getQuery("search:overflow", () -> List.of(load(1L).orElseThrow()));
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getQuery_shouldSweepExpiredEntriesBeforeRefusingNewKeys() throws InterruptedException {
+        // Arrange
+        ProductNearCache shortLived = new ProductNearCache(transport, new CatalogNode(), new SimpleMeterRegistry(), 200, 10, 10);
+        for (int i = 0; i < 10; i++) {
+            shortLived.getQuery("search:" + i, List::of);
+        }
+        Thread.sleep(250);
+
+        // Act
+        shortLived.getQuery("search:new", () -> List.of(load(1L).orElseThrow()));
+        shortLived.getQuery("search:new", () -> List.of(load(1L).orElseThrow()));
+
+        // Assert
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getProduct_shouldNotCacheMissingProductsOrMoreThanMaxProducts() {
+        // Arrange
+        for (long id = 1; id <= 10; id++) {
+            nodeA.getProduct(id, this::load);
+        }
+
+        // Act
+        for (long id = 100; id < 1100; id++) {
+            nodeA.getProduct(id, missing -> Optional.empty());
+        }
+        nodeA.getProduct(11L, this::load);
+        nodeA.getProduct(11L, this::load);
+
+        // Assert
+        assertEquals(12, loads.get());
+        assertEquals(10.0, meterRegistry.get("catalog.near_cache.size").gauge().value());
+    }
+
+    private Optional<Product> load(Long id) {
+        loads.incrementAndGet();
+        return Optional.of(product(id));
+    }
+
+    private static Product product(Long id) {
+        return Product.builder().id(id).name("Product " + id).build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.application.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryCoalescerTest {
+
+    private QueryCoalescer coalescer;
+    private ExecutorService executor;
+    private CountDownLatch release;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new QueryCoalescer(new SimpleMeterRegistry(), 2000);
+        executor = Executors.newFixedThreadPool(8);
+        release = new CountDownLatch(1);
+        calls = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_shouldShareOneCallBetweenConcurrentCallers() throws Exception {
+        // Arrange
+        Future<List<String>> leader = executor.submit(() -> coalescer.execute("category:1", this::blockingLoad));
+        awaitCalls(1);
+        List<Future<List<String>>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> coalescer.execute("category:1", this::blockingLoad)));
+        }
+        Thread.sleep(50);
+
+        // Act
+        release.countDown();
+
+        // Assert
+        assertEquals(List.of("result"), leader.get(1, TimeUnit.SECONDS));
+        for (Future<List<String>> follower : followers) {
+            assertEquals(List.of("result"), follower.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(5.0 / 6, coalescer.getCoalescingRatio(), 1e-9);
+    }
+
+    @Test
+    void execute_shouldPropagateLeaderFailureToFollowers() throws Exception {
+        // Arrange
+        Future<Object> leader = executor.submit(() -> coalescer.execute("search:x", () -> {
+            calls.incrementAndGet();
+            await(release);
+            throw new IllegalStateException("database unavailable");
+        }));
+        awaitCalls(1);
+        Future<Object> follower = executor.submit(() -> coalescer.execute("search:x", () -> "unused"));
+        Thread.sleep(50);
+
+        // Act
+        release.countDown();
+
+        // Assert
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> follower.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertThrows(ExecutionException.class, () -> leader.get(1, TimeUnit.SECONDS));
+        assertEquals("fresh", coalescer.execute("search:x", () -> "fresh"));
+    }
+
+    @Test
+    void execute_shouldTimeOutFollowersOfSlowCall() throws Exception {
+        // Arrange
+        QueryCoalescer impatient = new QueryCoalescer(new SimpleMeterRegistry(), 20);
+        executor.submit(() -> impatient.execute("category:2", this::blockingLoad));
+        awaitCalls(1);
+
+        // Act & Assert
+        assertThrows(QueryCoalescingTimeoutException.class, () -> impatient.execute("category:2", this::blockingLoad));
+        release.countDown();
+    }
+
+    private List<String> blockingLoad() {
+        calls.incrementAndGet();
+        await(release);
+        return List.of("result");
+    }
+
+    private void awaitCalls(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && calls.get() < expected; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
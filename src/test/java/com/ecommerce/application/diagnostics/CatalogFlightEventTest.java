@@ -0,0 +1,127 @@
+package com.ecommerce.application.diagnostics;
+
+import com.ecommerce.infrastructure.persistence.MockProductPortAdapter;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogFlightEventTest {
+    private static final String REPOSITORY_CALL = "com.ecommerce.RepositoryCall";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void repositoryCall_shouldRecordOperationAndRowCountWhenEnabled() throws Exception {
+        // Arrange
+        MockProductPortAdapter repository = new MockProductPortAdapter();
+
+        // Act
+        List<RecordedEvent> events = record(Configuration.create(Path.of("jfr/catalog.jfc")),
+                () -> repository.findAll());
+
+        // Assert
+        RecordedEvent event = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.ecommerce.RepositoryCall"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("mock", event.getString("component"));
+        assertEquals("findAll", event.getString("operation"));
+        assertEquals(10, event.getInt("rows"));
+        assertTrue(event.getLong("allocated") >= 0);
+    }
+
+    @Test
+    void events_shouldBeDisabledUnderTheDefaultTemplate() throws Exception {
+        // Arrange
+        MockProductPortAdapter repository = new MockProductPortAdapter();
+
+        // Act
+        List<RecordedEvent> events = record(Configuration.getConfiguration("default"),
+                () -> repository.findAll());
+
+        // Assert
+        assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().startsWith("com.ecommerce.")));
+    }
+
+    @Test
+    void repositoryCall_shouldStreamCommittedEventWhenEnabled() throws Exception {
+        // Arrange
+        MockProductPortAdapter repository = new MockProductPortAdapter();
+        BlockingQueue<RecordedEvent> events = new LinkedBlockingQueue<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(REPOSITORY_CALL).withThreshold(Duration.ZERO);
+            stream.onEvent(REPOSITORY_CALL, events::add);
+            stream.startAsync();
+
+            // Act
+            repository.findById(1L);
+            RecordedEvent event = events.poll(10, TimeUnit.SECONDS);
+
+            // Assert
+            assertNotNull(event, "no RepositoryCall event was streamed");
+            assertEquals("mock", event.getString("component"));
+            assertEquals("findById", event.getString("operation"));
+            assertEquals("1", event.getString("arguments"));
+            assertEquals(1, event.getInt("rows"));
+            assertFalse(event.getDuration().isNegative());
+        }
+    }
+
+    @Test
+    void repositoryCall_shouldNotStreamAnythingWhileDisabled() throws Exception {
+        // Arrange
+        MockProductPortAdapter repository = new MockProductPortAdapter();
+        BlockingQueue<RecordedEvent> events = new LinkedBlockingQueue<>();
+        Semaphore flushes = new Semaphore(0);
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.onEvent(REPOSITORY_CALL, events::add);
+            stream.onFlush(flushes::release);
+            stream.startAsync();
+
+            // Act
+            repository.findAll();
+            flushes.drainPermits();
+            boolean flushed = flushes.tryAcquire(2, 10, TimeUnit.SECONDS);
+
+            // Assert
+            assertTrue(flushed, "stream did not flush");
+            assertTrue(events.isEmpty());
+        }
+    }
+
+    @Test
+    void summarize_shouldCountCollectionsAndTruncateLongText() {
+        assertEquals("3 items", CatalogFlightEvent.summarize(List.of(1L, 2L, 3L)));
+        assertEquals("", CatalogFlightEvent.summarize(null));
+        assertEquals(83, CatalogFlightEvent.summarize("x".repeat(200)).length());
+    }
+
+    private List<RecordedEvent> record(Configuration configuration, Runnable action) throws Exception {
+        Path file = tempDir.resolve("catalog.jfr");
+        try (Recording recording = new Recording(configuration)) {
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+}
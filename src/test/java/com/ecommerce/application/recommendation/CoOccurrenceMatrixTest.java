@@ -0,0 +1,71 @@
+package com.ecommerce.application.recommendation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CoOccurrenceMatrixTest {
+
+    @Test
+    void related_shouldRankProductsByHowOftenTheyWereBoughtTogether() {
+        // Arrange
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(10);
+        matrix.addOrder(new long[] { 1, 2, 3 });
+        matrix.addOrder(new long[] { 1, 3 });
+        matrix.addOrder(new long[] { 3, 1, 4, 4 });
+
+        // Act
+        long[] related = matrix.related(1, 10);
+
+        // Assert
+        assertArrayEquals(new long[] { 3, 2, 4 }, related);
+        assertArrayEquals(new long[] { 3 }, matrix.related(1, 1));
+        assertArrayEquals(new long[] { 1, 3 }, matrix.related(4, 10));
+        assertArrayEquals(new long[0], matrix.related(99, 10));
+    }
+
+    @Test
+    void addOrder_shouldKeepFrequentNeighboursWhenARowIsFull() {
+        // Arrange
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(3);
+        for (int i = 0; i < 5; i++) {
+            matrix.addOrder(new long[] { 1, 2 });
+            matrix.addOrder(new long[] { 1, 3 });
+        }
+
+        // Act
+        for (long oneOff = 100; oneOff < 200; oneOff++) {
+            matrix.addOrder(new long[] { 1, oneOff });
+        }
+
+        // Assert
+        long[] related = matrix.related(1, 10);
+        assertEquals(3, related.length);
+        assertEquals(2, related[0]);
+        assertEquals(3, related[1]);
+    }
+
+    @Test
+    void remove_shouldDropTheProductAndKeepOtherRowsReachable() {
+        // Arrange
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(5);
+        for (long id = 1; id <= 5_000; id++) {
+            matrix.addOrder(new long[] { id, id + 1 });
+        }
+
+        // Act
+        for (long id = 2; id <= 5_000; id += 2) {
+            matrix.remove(id);
+        }
+
+        // Assert
+        assertEquals(2_501, matrix.products());
+        for (long id = 1; id <= 4_999; id += 2) {
+            assertArrayEquals(new long[0], matrix.related(id, 5), "row " + id);
+        }
+        assertArrayEquals(new long[0], matrix.related(5_000, 5));
+        matrix.addOrder(new long[] { 7, 9 });
+        assertArrayEquals(new long[] { 9 }, matrix.related(7, 5));
+    }
+}
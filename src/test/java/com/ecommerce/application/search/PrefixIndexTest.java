@@ -0,0 +1,73 @@
+package com.ecommerce.application.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefixIndexTest {
+
+    private PrefixIndex index;
+    private PrefixIndex.Entry headphones;
+    private PrefixIndex.Entry headset;
+    private PrefixIndex.Entry heater;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex(2, 4);
+        headphones = new PrefixIndex.Entry("Wireless Headphones", Suggestion.Type.PRODUCT, 1L, 5);
+        headset = new PrefixIndex.Entry("Gaming Headset", Suggestion.Type.PRODUCT, 2L, 10);
+        heater = new PrefixIndex.Entry("Patio Heater", Suggestion.Type.PRODUCT, 3L, 1);
+
+        index.add(List.of("wireless headphones", "headphones"), headphones);
+        index.add(List.of("gaming headset", "headset"), headset);
+        index.add(List.of("patio heater", "heater"), heater);
+    }
+
+    @Test
+    void complete_shouldReturnTopScoredEntriesForPrefix() {
+        // Act
+        List<Suggestion> suggestions = index.complete("He", 10);
+
+        // Assert
+        assertEquals(2, suggestions.size());
+        assertEquals("Gaming Headset", suggestions.get(0).getText());
+        assertEquals("Wireless Headphones", suggestions.get(1).getText());
+    }
+
+    @Test
+    void complete_shouldFilterPrefixesLongerThanIndexedDepth() {
+        // Act
+        List<Suggestion> suggestions = index.complete("headp", 10);
+
+        // Assert
+        assertEquals(1, suggestions.size());
+        assertEquals(1L, suggestions.get(0).getId());
+    }
+
+    @Test
+    void rescore_shouldReorderCompletions() {
+        // Act
+        index.rescore(List.of("patio heater", "heater"), heater, 100);
+        List<Suggestion> suggestions = index.complete("hea", 10);
+
+        // Assert
+        assertEquals("Patio Heater", suggestions.get(0).getText());
+        assertEquals(100, suggestions.get(0).getScore());
+    }
+
+    @Test
+    void remove_shouldPromoteNextBestEntry() {
+        // Act
+        index.remove(List.of("gaming headset", "headset"), headset);
+        List<Suggestion> suggestions = index.complete("h", 10);
+
+        // Assert
+        assertEquals(2, suggestions.size());
+        assertEquals("Wireless Headphones", suggestions.get(0).getText());
+        assertEquals("Patio Heater", suggestions.get(1).getText());
+        assertTrue(index.complete("gam", 10).isEmpty());
+    }
+}
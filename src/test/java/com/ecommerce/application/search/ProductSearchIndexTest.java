@@ -0,0 +1,142 @@
+package com.ecommerce.application.search;
+
+import com.ecommerce.application.cache.CatalogNode;
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.infrastructure.cache.LoopbackInvalidationTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+    private ProductRepository productRepository;
+    private LoopbackInvalidationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        transport = new LoopbackInvalidationTransport();
+        when(productRepository.findAll()).thenReturn(List.of(
+                product(1L, "Wireless Headphones", "Noise cancelling over-ear headphones", ProductStatus.ACTIVE),
+                product(2L, "Smartphone", "Latest model with wireless charging", ProductStatus.ACTIVE),
+                product(3L, "Headphone Stand", "Aluminium stand", ProductStatus.DISCONTINUED)));
+        index = new ProductSearchIndex(productRepository, transport, new CatalogNode(), 3.0, 1.0, 1.2, 0.75);
+        index.subscribe();
+        index.rebuild();
+    }
+
+    @Test
+    void rank_shouldTolerateTyposInFuzzyMode() {
+        // Act
+        List<Long> results = index.rank("wireles hedphones", 10);
+
+        // Assert
+        assertEquals(List.of(1L), results);
+    }
+
+    @Test
+    void rank_shouldRequireEveryKeyword() {
+        // Act & Assert
+        assertEquals(Set.of(1L, 2L), Set.copyOf(index.rank("wirless", 10)));
+        assertTrue(index.rank("wireless tablet", 10).isEmpty());
+    }
+
+    @Test
+    void order_shouldRankScoredIdsFirstAndKeepTheRestInGivenOrder() {
+        // Act
+        List<Long> ordered = index.order("wireless", List.of(3L, 2L, 99L, 1L), 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L, 99L), ordered);
+    }
+
+    @Test
+    void order_shouldScoreTermsStartingWithKeywordAndReturnOnlyTheLimit() {
+        // Act & Assert
+        assertEquals(List.of(2L), index.order("smart", List.of(1L, 2L, 3L), 1));
+        assertEquals(List.of(1L, 2L, 99L), index.order("wireless", List.of(99L, 3L, 2L, 1L), 3));
+        assertTrue(index.order("smart", List.of(1L, 2L), 0).isEmpty());
+    }
+
+    @Test
+    void rank_shouldBoostNameMatchesOverDescriptionMatches() {
+        // Act
+        List<Long> results = index.rank("wireless", 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), results);
+    }
+
+    @Test
+    void rank_shouldReturnOnlyTopK() {
+        // Act
+        List<Long> results = index.rank("wireless", 1);
+
+        // Assert
+        assertEquals(List.of(1L), results);
+    }
+
+    @Test
+    void rank_shouldNotIndexInactiveProducts() {
+        // Act & Assert
+        assertTrue(index.rank("aluminium", 10).isEmpty());
+    }
+
+    @Test
+    void onProductChanged_shouldReplaceAndRemoveTerms() {
+        // Act
+        index.onProductChanged(ProductChangedEvent.saved(
+                product(2L, "Tablet", "Ten inch display", ProductStatus.ACTIVE)));
+        index.onProductChanged(ProductChangedEvent.deleted(1L));
+
+        // Assert
+        assertEquals(List.of(2L), index.rank("tablte", 10));
+        assertTrue(index.rank("wireless", 10).isEmpty());
+    }
+
+    @Test
+    void onInvalidation_shouldRereadProductsWrittenOnOtherNodes() {
+        // Arrange
+        when(productRepository.findCurrentById(2L)).thenReturn(Optional.of(
+                product(2L, "Tablet", "Ten inch display", ProductStatus.ACTIVE)));
+        when(productRepository.findCurrentById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        transport.publish(new CacheInvalidationMessage("other-node", 2L, System.currentTimeMillis()));
+        transport.publish(new CacheInvalidationMessage("other-node", 1L, System.currentTimeMillis()));
+
+        // Assert
+        assertEquals(List.of(2L), index.rank("tablet", 10));
+        assertTrue(index.rank("headphones", 10).isEmpty());
+    }
+
+    @Test
+    void distance_shouldCountEdits() {
+        // Act & Assert
+        assertEquals(0, BkTree.distance("phone", "phone"));
+        assertEquals(1, BkTree.distance("phone", "phon"));
+        assertEquals(2, BkTree.distance("headphones", "hedphone"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+    }
+
+    private static Product product(Long id, String name, String description, ProductStatus status) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .status(status)
+                .build();
+    }
+}
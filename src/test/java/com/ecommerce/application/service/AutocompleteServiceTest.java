@@ -0,0 +1,119 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.cache.CatalogNode;
+import com.ecommerce.application.search.Suggestion;
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.infrastructure.cache.LoopbackInvalidationTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private AutocompleteService autocompleteService;
+    private LoopbackInvalidationTransport transport;
+    private CatalogNode node;
+    private Category audio;
+
+    @BeforeEach
+    void setUp() {
+        audio = Category.builder().id(1L).name("Audio").build();
+        when(productRepository.findAll()).thenReturn(List.of(
+                product(1L, "Wireless Headphones", ProductStatus.ACTIVE),
+                product(2L, "Gaming Headset", ProductStatus.ACTIVE)));
+        transport = new LoopbackInvalidationTransport();
+        node = new CatalogNode();
+        autocompleteService = new AutocompleteService(productRepository, transport, node, 3, 16);
+        autocompleteService.subscribe();
+        autocompleteService.rebuild();
+    }
+
+    @Test
+    void onProductChanged_shouldIndexRenamesAndDropDeletedProducts() {
+        // Act
+        autocompleteService.onProductChanged(ProductChangedEvent.saved(product(1L, "Studio Monitors", ProductStatus.ACTIVE)));
+        autocompleteService.onProductChanged(ProductChangedEvent.deleted(2L));
+
+        // Assert
+        assertTrue(autocompleteService.complete("head", 10).isEmpty());
+        assertEquals(List.of("Studio Monitors"), texts(autocompleteService.complete("monitors", 10)));
+        assertEquals(1.0, autocompleteService.complete("audio", 10).get(0).getScore());
+    }
+
+    @Test
+    void onProductChanged_shouldKeepViewsAndDropProductsNoLongerActive() {
+        // Arrange
+        autocompleteService.recordView(1L);
+        autocompleteService.recordView(1L);
+        autocompleteService.applyPendingViews();
+
+        // Act
+        autocompleteService.onProductChanged(ProductChangedEvent.saved(product(1L, "Wireless Headphones", ProductStatus.ACTIVE)));
+        autocompleteService.onProductChanged(ProductChangedEvent.saved(product(2L, "Gaming Headset", ProductStatus.DISCONTINUED)));
+
+        // Assert
+        List<Suggestion> suggestions = autocompleteService.complete("head", 10);
+        assertEquals(List.of("Wireless Headphones"), texts(suggestions));
+        assertEquals(2.0, suggestions.get(0).getScore());
+    }
+
+    @Test
+    void applyPendingViews_shouldCountViewsRecordedAcrossFlushes() {
+        // Act
+        autocompleteService.recordView(2L);
+        autocompleteService.applyPendingViews();
+        autocompleteService.recordView(2L);
+        autocompleteService.recordView(2L);
+        autocompleteService.applyPendingViews();
+        autocompleteService.applyPendingViews();
+
+        // Assert
+        Suggestion top = autocompleteService.complete("h", 10).get(0);
+        assertEquals("Gaming Headset", top.getText());
+        assertEquals(3.0, top.getScore());
+    }
+
+    @Test
+    void onInvalidation_shouldFollowOtherNodesAndIgnoreThisOne() {
+        // Arrange
+        autocompleteService.recordView(1L);
+        autocompleteService.applyPendingViews();
+        when(productRepository.findCurrentById(1L)).thenReturn(Optional.of(product(1L, "Wireless Earbuds", ProductStatus.ACTIVE)));
+
+        // Act
+        transport.publish(new CacheInvalidationMessage(node.getId(), 2L, System.currentTimeMillis()));
+        transport.publish(new CacheInvalidationMessage("other-node", 1L, System.currentTimeMillis()));
+
+        // Assert
+        assertEquals(List.of("Gaming Headset"), texts(autocompleteService.complete("head", 10)));
+        Suggestion renamed = autocompleteService.complete("earb", 10).get(0);
+        assertEquals("Wireless Earbuds", renamed.getText());
+        assertEquals(1.0, renamed.getScore());
+    }
+
+    private Product product(Long id, String name, ProductStatus status) {
+        return Product.builder().id(id).name(name).status(status).categories(Set.of(audio)).build();
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).toList();
+    }
+}
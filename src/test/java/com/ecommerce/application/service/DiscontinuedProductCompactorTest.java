@@ -0,0 +1,71 @@
+package com.ecommerce.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DiscontinuedProductCompactorTest {
+
+    @Mock
+    private ProductManagementService productService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DiscontinuedProductCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        compactor = new DiscontinuedProductCompactor(productService, meterRegistry, 24, 100, 3, 0);
+    }
+
+    @Test
+    void compact_shouldStopAfterTheFirstPartialBatch() {
+        // Arrange
+        when(productService.purgeDiscontinued(any(), eq(100))).thenReturn(100, 40);
+
+        // Act
+        compactor.compact();
+
+        // Assert
+        verify(productService, times(2)).purgeDiscontinued(any(), eq(100));
+        assertEquals(140, meterRegistry.counter("catalog.compaction.purged").count());
+    }
+
+    @Test
+    void compact_shouldLeaveTheRestOfALargeBacklogForTheNextRun() {
+        // Arrange
+        when(productService.purgeDiscontinued(any(), eq(100))).thenReturn(100);
+
+        // Act
+        compactor.compact();
+
+        // Assert
+        verify(productService, times(3)).purgeDiscontinued(any(), eq(100));
+    }
+
+    @Test
+    void compact_shouldOnlyPurgeProductsOlderThanTheRetention() {
+        // Arrange
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(productService.purgeDiscontinued(cutoff.capture(), eq(100))).thenReturn(0);
+
+        // Act
+        compactor.compact();
+
+        // Assert
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusHours(23)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.application.search.PrefixIndex;
+import com.ecommerce.application.search.Suggestion;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Completion latency of {@link PrefixIndex} over synthetic product names. Run from the
+ * project root after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -Xmx8g -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     com.ecommerce.benchmark.AutocompleteBenchmark [products]
+ * </pre>
+ */
+public class AutocompleteBenchmark {
+    private static final String[] WORDS = { "wireless", "headphones", "smart", "watch", "laptop", "pro", "classic",
+            "shirt", "designer", "jeans", "programming", "guide", "novel", "collection", "vase", "wall", "art",
+            "phone", "charger", "cable", "gaming", "mouse", "keyboard", "monitor", "desk", "lamp", "chair" };
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(42);
+        PrefixIndex index = new PrefixIndex(10, 16);
+
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            String normalized = PrefixIndex.normalize(name);
+            index.add(List.of(normalized, normalized.substring(normalized.indexOf(' ') + 1)),
+                    new PrefixIndex.Entry(name, Suggestion.Type.PRODUCT, i, random.nextInt(10_000)));
+        }
+        System.out.printf("indexed %,d products in %,d ms%n", count, (System.nanoTime() - buildStart) / 1_000_000);
+
+        int queries = 200_000;
+        long[] latencies = new long[queries];
+        for (int i = 0; i < queries; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            String prefix = word.substring(0, 1 + random.nextInt(word.length()));
+            long start = System.nanoTime();
+            index.complete(prefix, 10);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("p50 %.1f us, p99 %.1f us, p999 %.1f us%n",
+                latencies[queries / 2] / 1e3, latencies[queries * 99 / 100] / 1e3, latencies[queries * 999 / 1000] / 1e3);
+    }
+}
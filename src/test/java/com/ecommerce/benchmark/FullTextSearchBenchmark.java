@@ -0,0 +1,107 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.EcommerceApplication;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.infrastructure.persistence.H2FullTextProductPortAdapter;
+import com.ecommerce.infrastructure.persistence.JpaProductPortAdapter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Keyword lookup latency of {@link JpaProductPortAdapter} ({@code LIKE} scans) against
+ * {@link H2FullTextProductPortAdapter} over the same synthetic catalog. "common" keywords
+ * are catalog words found in a large share of products, so both adapters mostly pay for
+ * loading rows; "rare" keywords are lot codes found in a handful, so the lookup itself
+ * dominates. Run from the project root after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     com.ecommerce.benchmark.FullTextSearchBenchmark [products] [queries]
+ * </pre>
+ */
+public class FullTextSearchBenchmark {
+    private static final String[] WORDS = { "wireless", "headphones", "smart", "watch", "laptop", "pro", "classic",
+            "shirt", "designer", "jeans", "programming", "guide", "novel", "collection", "vase", "wall", "art",
+            "phone", "charger", "cable", "gaming", "mouse", "keyboard", "monitor", "desk", "lamp", "chair" };
+    private static final int LOTS = 2_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        try (ConfigurableApplicationContext context = SpringApplication.run(EcommerceApplication.class,
+                "--spring.profiles.active=fulltext", "--spring.main.web-application-type=none",
+                "--logging.level.root=WARN", "--catalog.slow-query.enabled=false")) {
+            long seedStart = System.nanoTime();
+            seed(context.getBean(JdbcTemplate.class), count);
+            System.out.printf("seeded %,d products in %,d ms (full-text triggers included)%n",
+                    count, (System.nanoTime() - seedStart) / 1_000_000);
+
+            List<Adapter> adapters = List.of(
+                    new Adapter("jpa", context.getBean(JpaProductPortAdapter.class)),
+                    new Adapter("fulltext", context.getBean(H2FullTextProductPortAdapter.class)));
+            List<Keywords> keywords = List.of(
+                    new Keywords("common", random -> WORDS[random.nextInt(WORDS.length)]),
+                    new Keywords("rare", random -> "lot" + random.nextInt(LOTS)));
+
+            System.out.printf("%-10s %-18s %-8s %10s %10s %8s%n", "adapter", "lookup", "keyword", "p50 ms", "p99 ms",
+                    "rows");
+            for (Keywords keyword : keywords) {
+                for (Adapter adapter : adapters) {
+                    measure(adapter, "name", adapter.repository()::findByNameContaining, keyword, queries);
+                    measure(adapter, "description", adapter.repository()::findByDescriptionContaining, keyword,
+                            queries);
+                    measure(adapter, "name|description", adapter.repository()::findByNameOrDescriptionContaining,
+                            keyword, queries);
+                }
+            }
+        }
+    }
+
+    private static void measure(Adapter adapter, String lookup, Function<String, List<?>> search,
+                                Keywords keywords, int queries) {
+        Random random = new Random(7);
+        for (int i = 0; i < queries / 4; i++) {
+            search.apply(keywords.next().apply(random));
+        }
+        long[] latencies = new long[queries];
+        long rows = 0;
+        for (int i = 0; i < queries; i++) {
+            String keyword = keywords.next().apply(random);
+            long start = System.nanoTime();
+            rows += search.apply(keyword).size();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-10s %-18s %-8s %10.2f %10.2f %8d%n", adapter.name(), lookup, keywords.name(),
+                latencies[queries / 2] / 1e6, latencies[queries * 99 / 100] / 1e6, rows / queries);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int count) {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 8; w++) {
+                description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            description.append("from lot").append(random.nextInt(LOTS)).append('.');
+            rows.add(new Object[] { name, name.toLowerCase(), description.toString() });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (name, name_lower, description, base_price, current_price, "
+                + "stock_quantity, status) VALUES (?, ?, ?, 10, 10, 1, 'ACTIVE')", rows);
+    }
+
+    private record Adapter(String name, ProductRepository repository) {
+    }
+
+    private record Keywords(String name, Function<Random, String> next) {
+    }
+}
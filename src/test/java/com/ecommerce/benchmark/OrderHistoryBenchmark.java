@@ -0,0 +1,166 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.EcommerceApplication;
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderCursor;
+import com.ecommerce.domain.model.OrderHistoryPage;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderStatus;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.OrderHistoryRepository;
+import com.ecommerce.infrastructure.persistence.InMemoryOrderHistoryAdapter;
+import com.ecommerce.infrastructure.persistence.JpaOrderHistoryAdapter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Order history reads for customers with {@code orders} orders each (10,000 by default)
+ * spread over five years, against {@link JpaOrderHistoryAdapter} and the month-partitioned
+ * {@link InMemoryOrderHistoryAdapter}. "page 1" and "page 50" show that keyset pages cost
+ * the same at any depth; "full history" is what loading a customer with its whole order
+ * list used to cost. Run from the project root after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     com.ecommerce.benchmark.OrderHistoryBenchmark [orders] [customers] [queries]
+ * </pre>
+ */
+public class OrderHistoryBenchmark {
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int MINUTES = 5 * 365 * 24 * 60;
+    private static final int PAGE_SIZE = 20;
+
+    public static void main(String[] args) {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int customers = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        try (ConfigurableApplicationContext context = SpringApplication.run(EcommerceApplication.class,
+                "--spring.main.web-application-type=none", "--logging.level.root=WARN",
+                "--catalog.slow-query.enabled=false")) {
+            InMemoryOrderHistoryAdapter memory = new InMemoryOrderHistoryAdapter();
+            long seedStart = System.nanoTime();
+            seed(context.getBean(JdbcTemplate.class), memory, customers, orders);
+            System.out.printf("seeded %,d customers x %,d orders in %,d ms%n",
+                    customers, orders, (System.nanoTime() - seedStart) / 1_000_000);
+
+            List<Adapter> adapters = List.of(
+                    new Adapter("jpa", context.getBean(JpaOrderHistoryAdapter.class)),
+                    new Adapter("memory", memory));
+            System.out.printf("%-8s %-14s %10s %10s %8s%n", "adapter", "read", "p50 ms", "p99 ms", "rows");
+            for (Adapter adapter : adapters) {
+                OrderHistoryRepository repository = adapter.repository();
+                OrderCursor[] page50 = cursors(repository, customers, 49);
+                measure(adapter, "page 1", customers, queries,
+                        customer -> repository.findRecent((long) customer, null, PAGE_SIZE).getOrders().size());
+                measure(adapter, "page 50", customers, queries,
+                        customer -> repository.findRecent((long) customer, page50[customer], PAGE_SIZE)
+                                .getOrders().size());
+                measure(adapter, "month", customers, queries,
+                        customer -> repository.findByMonth((long) customer, YearMonth.of(2022, 6)).size());
+                measure(adapter, "full history", customers, Math.max(queries / 10, 3),
+                        customer -> fullHistory(repository, customer));
+            }
+        }
+    }
+
+    /**
+     * Cursor of each customer after {@code pages} pages, found outside the timed loop.
+     */
+    private static OrderCursor[] cursors(OrderHistoryRepository repository, int customers, int pages) {
+        OrderCursor[] cursors = new OrderCursor[customers + 1];
+        for (int customer = 1; customer <= customers; customer++) {
+            for (int i = 0; i < pages; i++) {
+                cursors[customer] = repository.findRecent((long) customer, cursors[customer], PAGE_SIZE).getNext();
+            }
+        }
+        return cursors;
+    }
+
+    private static int fullHistory(OrderHistoryRepository repository, int customer) {
+        int rows = 0;
+        OrderCursor cursor = null;
+        do {
+            OrderHistoryPage page = repository.findRecent((long) customer, cursor, 100);
+            rows += page.getOrders().size();
+            cursor = page.getNext();
+        } while (cursor != null);
+        return rows;
+    }
+
+    private static void measure(Adapter adapter, String read, int customers, int queries,
+                                IntFunction<Integer> query) {
+        Random random = new Random(7);
+        for (int i = 0; i < queries / 4 + 1; i++) {
+            query.apply(1 + random.nextInt(customers));
+        }
+        long[] latencies = new long[queries];
+        long rows = 0;
+        for (int i = 0; i < queries; i++) {
+            int customer = 1 + random.nextInt(customers);
+            long start = System.nanoTime();
+            rows += query.apply(customer);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-8s %-14s %10.2f %10.2f %8d%n", adapter.name(), read,
+                latencies[queries / 2] / 1e6, latencies[queries * 99 / 100] / 1e6, rows / queries);
+    }
+
+    /**
+     * Orders with two items each, at random minutes over five years, written to the orders
+     * tables in batches and saved to {@code memory}.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate, InMemoryOrderHistoryAdapter memory, int customers,
+                             int orders) {
+        Random random = new Random(42);
+        long id = 1;
+        for (int customer = 1; customer <= customers; customer++) {
+            List<Object[]> orderRows = new ArrayList<>();
+            List<Object[]> itemRows = new ArrayList<>();
+            for (int i = 0; i < orders; i++, id++) {
+                LocalDateTime placed = START.plusMinutes(random.nextInt(MINUTES));
+                BigDecimal price = BigDecimal.valueOf(500 + random.nextInt(20_000), 2);
+                orderRows.add(new Object[] { id, customer, placed, price.multiply(BigDecimal.valueOf(3)) });
+                int first = 1 + random.nextInt(500);
+                int second = 1 + random.nextInt(500);
+                itemRows.add(new Object[] { id, 0, first, 1, price });
+                itemRows.add(new Object[] { id, 1, second, 2, price });
+                memory.save(Order.builder()
+                        .id(id)
+                        .customer(Customer.builder().id((long) customer).build())
+                        .orderDate(placed)
+                        .status(OrderStatus.DELIVERED)
+                        .orderItems(List.of(item(first, 1, price), item(second, 2, price)))
+                        .totalPrice(price.multiply(BigDecimal.valueOf(3)))
+                        .build());
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO orders (id, customer_id, order_date, status, total_price) "
+                    + "VALUES (?, ?, ?, 'DELIVERED', ?)", orderRows);
+            jdbcTemplate.batchUpdate("INSERT INTO order_items (order_id, line_number, product_id, quantity, "
+                    + "price_at_purchase) VALUES (?, ?, ?, ?, ?)", itemRows);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static OrderItem item(int productId, int quantity, BigDecimal price) {
+        return OrderItem.builder()
+                .product(Product.builder().id((long) productId).build())
+                .quantity(quantity)
+                .priceAtPurchase(price)
+                .build();
+    }
+
+    private record Adapter(String name, OrderHistoryRepository repository) {
+    }
+}
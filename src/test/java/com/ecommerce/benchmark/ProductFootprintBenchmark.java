@@ -0,0 +1,90 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.infrastructure.cache.CompactProduct;
+import com.ecommerce.infrastructure.cache.StringPool;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reports retained heap per product for the domain {@link Product} and the resident
+ * {@link CompactProduct}. Run from the project root after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -Xmx4g -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     com.ecommerce.benchmark.ProductFootprintBenchmark [count]
+ * </pre>
+ */
+public class ProductFootprintBenchmark {
+    private static final String[] NAMES = { "Smartphone X", "Laptop Pro", "Wireless Headphones",
+            "Classic T-Shirt", "Designer Jeans", "Programming Guide", "Decorative Vase", "Smart Watch" };
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Category> categories = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            categories.add(Category.builder().id(id).name("Category " + id).build());
+        }
+
+        long baseline = usedHeap();
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(product(i, categories));
+        }
+        long domainBytes = usedHeap() - baseline;
+
+        StringPool pool = new StringPool();
+        List<CompactProduct> compact = new ArrayList<>(count);
+        for (Product product : products) {
+            compact.add(CompactProduct.from(product, pool));
+        }
+        products.clear();
+        products = null;
+        long compactBytes = usedHeap() - baseline;
+
+        System.out.printf("products:          %,d%n", compact.size());
+        System.out.printf("Product:           %,d bytes/product%n", domainBytes / count);
+        System.out.printf("CompactProduct:    %,d bytes/product%n", compactBytes / count);
+        System.out.printf("pooled strings:    %,d%n", pool.size());
+    }
+
+    private static Product product(int i, List<Category> categories) {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i);
+        // Strings are built per product, as a JDBC driver or JSON parser would hand them over.
+        // Names repeat across variants; descriptions are unique, so the pool cannot share them.
+        return Product.builder()
+                .id((long) i)
+                .name(NAMES[i % NAMES.length] + " " + (i % 1000))
+                .description("Description for model " + (i % 5000) + ", serial " + i)
+                .basePrice(BigDecimal.valueOf(10_000 + i % 90_000, 2))
+                .currentPrice(BigDecimal.valueOf(9_000 + i % 80_000, 2))
+                .categories(Set.of(categories.get(i % categories.size())))
+                .imageUrl("https://cdn.example.com/img/" + (i % 20_000) + ".png")
+                .stockQuantity(i % 500)
+                .status(ProductStatus.ACTIVE)
+                .weight(BigDecimal.valueOf(i % 3000, 3))
+                .dimensions(BigDecimal.valueOf(i % 700, 1))
+                .createdAt(created)
+                .updatedAt(created.plusDays(1))
+                .build();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.infrastructure.config.SerializationConfig;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization time and payload size per product for each response format, with the
+ * same mapper configuration as the web layer. Run from the project root after
+ * {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     com.ecommerce.benchmark.SerializationBenchmark [products] [iterations]
+ * </pre>
+ */
+public class SerializationBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        List<Product> products = products(count);
+
+        System.out.printf("%-7s %14s %14s %14s%n", "format", "ns/product", "bytes/product", "gzip/product");
+        report("json", mapper(new JsonFactory()), products, iterations);
+        report("cbor", mapper(new CBORFactory()), products, iterations);
+        report("smile", mapper(new SmileFactory()), products, iterations);
+    }
+
+    private static void report(String format, ObjectMapper mapper, List<Product> products, int iterations)
+            throws IOException {
+        byte[] payload = mapper.writeValueAsBytes(products);
+        for (int i = 0; i < iterations; i++) {
+            payload = mapper.writeValueAsBytes(products);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            payload = mapper.writeValueAsBytes(products);
+        }
+        double nanosPerProduct = (System.nanoTime() - start) / (double) iterations / products.size();
+        System.out.printf("%-7s %14.1f %14.1f %14.1f%n", format, nanosPerProduct,
+                payload.length / (double) products.size(), gzip(payload).length / (double) products.size());
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new SerializationConfig().catalogMixins().customize(builder);
+        return builder.factory(factory).build();
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(payload);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<Product> products(int count) {
+        List<Category> categories = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            categories.add(Category.builder().id(id).name("Category " + id).description("Products of group " + id).build());
+        }
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i * 37L);
+            products.add(Product.builder()
+                    .id((long) i)
+                    .name("Product " + i)
+                    .description("Description for model " + (i % 500))
+                    .basePrice(BigDecimal.valueOf(10_000 + i % 90_000, 2))
+                    .currentPrice(BigDecimal.valueOf(9_000 + i % 80_000, 2))
+                    .categories(Set.of(categories.get(i % categories.size())))
+                    .imageUrl("https://cdn.example.com/img/" + i + ".png")
+                    .stockQuantity(i % 500)
+                    .status(ProductStatus.ACTIVE)
+                    .weight(BigDecimal.valueOf(i % 3000, 3))
+                    .dimensions(BigDecimal.valueOf(i % 700, 1))
+                    .createdAt(created)
+                    .updatedAt(created.plusDays(1))
+                    .build());
+        }
+        return products;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measures time from JVM launch to the first successful {@code /api/catalog} response
+ * for each startup variant. Build first with {@code mvn -Pfast-startup package -DskipTests},
+ * then run from the project root:
+ *
+ * <pre>
+ * java -cp target/test-classes com.ecommerce.benchmark.StartupBenchmark [runs]
+ * </pre>
+ */
+public class StartupBenchmark {
+    private static final Path JAR = Path.of("target/clean-architecture-ecommerce-0.0.1-SNAPSHOT.jar");
+    private static final Path CLASSPATH = Path.of("target/classpath.txt");
+    private static final Path CDS_ARCHIVE = Path.of("target/app-cds.jsa");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private static final List<Variant> VARIANTS = List.of(
+            new Variant("baseline", List.of()),
+            new Variant("lazy", List.of("-Dspring.profiles.active=fast-startup")),
+            new Variant("lazy+aot", List.of("-Dspring.profiles.active=fast-startup", "-Dspring.aot.enabled=true")),
+            new Variant("lazy+aot+cds", List.of("-Dspring.profiles.active=fast-startup", "-Dspring.aot.enabled=true",
+                    "-XX:SharedArchiveFile=" + CDS_ARCHIVE)));
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        if (!Files.exists(JAR) || !Files.exists(CLASSPATH) || !Files.exists(CDS_ARCHIVE)) {
+            System.err.println("Missing build outputs; run: mvn -Pfast-startup package -DskipTests");
+            System.exit(1);
+        }
+        String classpath = JAR + File.pathSeparator + Files.readString(CLASSPATH).trim();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+        System.out.printf("%-14s %8s %8s %8s%n", "variant", "min ms", "p50 ms", "max ms");
+        for (Variant variant : VARIANTS) {
+            List<Long> samples = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                samples.add(timeToFirstResponse(variant, classpath, client));
+            }
+            Collections.sort(samples);
+            System.out.printf("%-14s %8d %8d %8d%n", variant.name(),
+                    samples.get(0), samples.get(samples.size() / 2), samples.get(samples.size() - 1));
+        }
+    }
+
+    private static long timeToFirstResponse(Variant variant, String classpath, HttpClient client) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(variant.jvmArgs());
+        command.addAll(List.of("-cp", classpath, "com.ecommerce.EcommerceApplication", "--server.port=" + port));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/catalog"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with code " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(variant.name() + " did not answer within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Variant(String name, List<String> jvmArgs) {
+    }
+}
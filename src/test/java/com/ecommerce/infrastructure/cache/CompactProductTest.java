@@ -0,0 +1,114 @@
+package com.ecommerce.infrastructure.cache;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactProductTest {
+
+    private StringPool pool;
+    private Category electronics;
+    private Map<Long, Category> categories;
+
+    @BeforeEach
+    void setUp() {
+        pool = new StringPool();
+        electronics = Category.builder()
+                .id(1L)
+                .name("Electronics")
+                .build();
+        categories = Map.of(1L, electronics);
+    }
+
+    @Test
+    void toProduct_shouldRestoreAllFields() {
+        // Arrange
+        Product product = Product.builder()
+                .id(7L)
+                .name("Laptop Pro")
+                .description("High-performance laptop")
+                .basePrice(new BigDecimal("1299.99"))
+                .currentPrice(new BigDecimal("1199.990"))
+                .categories(Set.of(electronics))
+                .imageUrl("https://cdn.example.com/laptop.png")
+                .stockQuantity(25)
+                .status(ProductStatus.OUT_OF_STOCK)
+                .weight(new BigDecimal("1.85"))
+                .dimensions(new BigDecimal("-3E+2"))
+                .createdAt(LocalDateTime.of(2023, 12, 31, 23, 59, 59, 999999999))
+                .updatedAt(LocalDateTime.of(1969, 7, 20, 20, 17, 40, 5))
+                .build();
+
+        // Act
+        Product restored = CompactProduct.from(product, pool).toProduct(categories::get);
+
+        // Assert
+        assertEquals(7L, restored.getId());
+        assertEquals("Laptop Pro", restored.getName());
+        assertEquals("High-performance laptop", restored.getDescription());
+        assertEquals(new BigDecimal("1299.99"), restored.getBasePrice());
+        assertEquals(new BigDecimal("1199.990"), restored.getCurrentPrice());
+        assertEquals(new BigDecimal("1.85"), restored.getWeight());
+        assertEquals(new BigDecimal("-3E+2"), restored.getDimensions());
+        assertEquals(Set.of(electronics), restored.getCategories());
+        assertEquals("https://cdn.example.com/laptop.png", restored.getImageUrl());
+        assertEquals(25, restored.getStockQuantity());
+        assertEquals(ProductStatus.OUT_OF_STOCK, restored.getStatus());
+        assertEquals(product.getCreatedAt(), restored.getCreatedAt());
+        assertEquals(product.getUpdatedAt(), restored.getUpdatedAt());
+    }
+
+    @Test
+    void toProduct_shouldPreserveNulls() {
+        // Arrange
+        Product product = Product.builder().id(8L).name("Placeholder").build();
+
+        // Act
+        Product restored = CompactProduct.from(product, pool).toProduct(categories::get);
+
+        // Assert
+        assertNull(restored.getBasePrice());
+        assertNull(restored.getCurrentPrice());
+        assertNull(restored.getCategories());
+        assertNull(restored.getStockQuantity());
+        assertNull(restored.getStatus());
+        assertNull(restored.getCreatedAt());
+    }
+
+    @Test
+    void from_shouldShareDuplicateStrings() {
+        // Arrange
+        Product first = Product.builder().id(1L).name(new String("Classic T-Shirt")).build();
+        Product second = Product.builder().id(2L).name(new String("Classic T-Shirt")).build();
+
+        // Act
+        CompactProduct a = CompactProduct.from(first, pool);
+        CompactProduct b = CompactProduct.from(second, pool);
+
+        // Assert
+        assertSame(a.getName(), b.getName());
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void from_shouldRejectDecimalsThatDoNotFit() {
+        // Arrange
+        Product product = Product.builder()
+                .id(9L)
+                .name("Huge")
+                .basePrice(new BigDecimal("123456789012345678901234567890"))
+                .build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CompactProduct.from(product, pool));
+    }
+}
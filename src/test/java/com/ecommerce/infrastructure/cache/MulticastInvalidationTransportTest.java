@@ -0,0 +1,50 @@
+package com.ecommerce.infrastructure.cache;
+
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MulticastInvalidationTransportTest {
+
+    @Test
+    void decode_shouldRestoreEncodedMessage() throws IOException {
+        // Arrange
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-a", 42L, 1_700_000_000_123L);
+
+        // Act
+        byte[] payload = MulticastInvalidationTransport.encode(message);
+        CacheInvalidationMessage decoded = MulticastInvalidationTransport.decode(payload, payload.length);
+
+        // Assert
+        assertEquals("node-a", decoded.getOriginNodeId());
+        assertEquals(42L, decoded.getProductId());
+        assertEquals(1_700_000_000_123L, decoded.getPublishedAtEpochMilli());
+    }
+
+    @Test
+    void decode_shouldKeepMissingProductIdAsInvalidateAll() throws IOException {
+        // Arrange
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-b", null, 5L);
+
+        // Act
+        byte[] payload = MulticastInvalidationTransport.encode(message);
+        CacheInvalidationMessage decoded = MulticastInvalidationTransport.decode(payload, payload.length);
+
+        // Assert
+        assertEquals("node-b", decoded.getOriginNodeId());
+        assertNull(decoded.getProductId());
+        assertEquals(5L, decoded.getPublishedAtEpochMilli());
+    }
+
+    @Test
+    void decode_shouldRejectTruncatedDatagrams() throws IOException {
+        // Arrange
+        byte[] payload = MulticastInvalidationTransport.encode(new CacheInvalidationMessage("node-c", 7L, 9L));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> MulticastInvalidationTransport.decode(payload, payload.length - 4));
+    }
+}
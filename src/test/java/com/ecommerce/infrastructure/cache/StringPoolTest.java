@@ -0,0 +1,43 @@
+package com.ecommerce.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringPoolTest {
+
+    @Test
+    void intern_shouldReturnTheFirstInstanceOfEqualStrings() {
+        // Arrange
+        StringPool pool = new StringPool();
+        String first = new String("Laptop Pro");
+
+        // Act
+        String pooled = pool.intern(first);
+        String again = pool.intern(new String("Laptop Pro"));
+
+        // Assert
+        assertSame(first, pooled);
+        assertSame(first, again);
+        assertNull(pool.intern(null));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void intern_shouldReleaseStringsNoLongerReferenced() throws InterruptedException {
+        // Arrange
+        StringPool pool = new StringPool();
+        String kept = pool.intern(new String("kept"));
+        pool.intern(new String("overwritten"));
+
+        // Act
+        for (int i = 0; i < 10 && pool.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        // Assert
+        assertEquals(1, pool.size());
+        assertSame(kept, pool.intern(new String("kept")));
+    }
+}
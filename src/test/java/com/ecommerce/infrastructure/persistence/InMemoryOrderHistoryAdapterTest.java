@@ -0,0 +1,86 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderCursor;
+import com.ecommerce.domain.model.OrderHistoryPage;
+import com.ecommerce.domain.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryOrderHistoryAdapterTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 30, 12, 0);
+
+    private InMemoryOrderHistoryAdapter orderHistory;
+
+    @BeforeEach
+    void setUp() {
+        orderHistory = new InMemoryOrderHistoryAdapter();
+        // Ten orders a day from January 30th to February 2nd, half of them at noon sharp
+        for (int i = 0; i < 40; i++) {
+            orderHistory.save(order(1L, START.plusDays(i / 10).plusMinutes(i % 2 == 0 ? 0 : i)));
+        }
+        orderHistory.save(order(2L, START));
+    }
+
+    @Test
+    void findRecent_shouldContinueAcrossMonthPartitionsNewestFirst() {
+        // Act
+        List<Order> seen = new ArrayList<>();
+        OrderCursor cursor = null;
+        do {
+            OrderHistoryPage page = orderHistory.findRecent(1L, cursor, 7);
+            seen.addAll(page.getOrders());
+            cursor = page.getNext();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(40, seen.size());
+        assertEquals(40, seen.stream().map(Order::getId).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            Order newer = seen.get(i - 1);
+            Order older = seen.get(i);
+            assertTrue(newer.getOrderDate().isAfter(older.getOrderDate())
+                    || newer.getOrderDate().equals(older.getOrderDate()) && newer.getId() > older.getId());
+        }
+    }
+
+    @Test
+    void findByMonth_shouldReadOnlyThatPartition() {
+        // Act
+        List<Order> january = orderHistory.findByMonth(1L, YearMonth.of(2024, 1));
+        List<Order> march = orderHistory.findByMonth(1L, YearMonth.of(2024, 3));
+
+        // Assert
+        assertEquals(20, january.size());
+        assertTrue(march.isEmpty());
+        assertEquals(1, orderHistory.findByMonth(2L, YearMonth.of(2024, 1)).size());
+    }
+
+    @Test
+    void save_shouldRejectOrdersWithoutCustomer() {
+        Order order = Order.builder().orderDate(START).totalPrice(BigDecimal.ONE).build();
+
+        assertThrows(IllegalArgumentException.class, () -> orderHistory.save(order));
+    }
+
+    private static Order order(Long customerId, LocalDateTime placed) {
+        return Order.builder()
+                .customer(Customer.builder().id(customerId).build())
+                .orderDate(placed)
+                .status(OrderStatus.PAID)
+                .orderItems(List.of())
+                .totalPrice(BigDecimal.TEN)
+                .build();
+    }
+}
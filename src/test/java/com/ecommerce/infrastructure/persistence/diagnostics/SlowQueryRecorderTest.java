@@ -0,0 +1,86 @@
+package com.ecommerce.infrastructure.persistence.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlowQueryRecorderTest {
+
+    private SlowQueryRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) {
+            recorder.shutdown();
+        }
+    }
+
+    @Test
+    void slowQueries_shouldBeAggregatedByNormalizedStatementWithPlan() throws Exception {
+        // Arrange
+        JdbcTemplate jdbcTemplate = proxiedH2(0);
+
+        // Act
+        jdbcTemplate.queryForList("SELECT name FROM item WHERE id IN (?, ?)", String.class, 1, 2);
+        jdbcTemplate.queryForList("SELECT name FROM item WHERE id IN (?, ?, ?)", String.class, 1, 2, 3);
+        SlowQuery slowQuery = awaitPlan("SELECT name FROM item WHERE id IN (?)");
+
+        // Assert
+        assertEquals(2, slowQuery.count());
+        assertEquals("[1=1, 2=2, 3=3]", slowQuery.lastParameters());
+        assertTrue(slowQuery.plan().contains("PUBLIC.PRIMARY_KEY"), slowQuery.plan());
+    }
+
+    @Test
+    void fastQueries_shouldNotBeRecorded() {
+        // Arrange
+        JdbcTemplate jdbcTemplate = proxiedH2(60_000);
+
+        // Act
+        jdbcTemplate.queryForList("SELECT name FROM item", String.class);
+
+        // Assert
+        assertTrue(recorder.top(10).isEmpty());
+    }
+
+    @Test
+    void normalize_shouldCollapseWhitespaceLiteralsAndInLists() {
+        assertEquals("select * from t where a = ? and b = ? and c in (?)",
+                SlowQueryRecorder.normalize("select *\n  from t where a = 42 and b = 'x''y' and c in (?, ?,?)"));
+        assertEquals("select p1_0.id from products p1_0",
+                SlowQueryRecorder.normalize("select p1_0.id from products p1_0"));
+    }
+
+    private JdbcTemplate proxiedH2(long thresholdMillis) {
+        recorder = new SlowQueryRecorder(thresholdMillis, 100, "EXPLAIN", new SimpleMeterRegistry());
+        DataSource target = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(target).execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(32));"
+                + "INSERT INTO item VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        return new JdbcTemplate(ProxyDataSourceBuilder.create(target)
+                .listener(recorder.listenerFor(target))
+                .build());
+    }
+
+    private SlowQuery awaitPlan(String statement) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            List<SlowQuery> top = recorder.top(10);
+            for (SlowQuery query : top) {
+                if (query.statement().equals(statement) && query.plan() != null) {
+                    return query;
+                }
+            }
+            Thread.sleep(20);
+        }
+        return fail("No plan captured for " + statement + ": " + recorder.top(10));
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.infrastructure.persistence.mapper;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryMapperTest {
+
+    private CategoryRegistry registry;
+    private CategoryMapper mapper;
+    private CategoryEntity electronics;
+    private CategoryEntity phones;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CategoryRegistry();
+        mapper = new CategoryMapper(registry);
+
+        electronics = CategoryEntity.builder()
+                .id(1L)
+                .name("Electronics")
+                .description("Electronic devices")
+                .build();
+
+        phones = CategoryEntity.builder()
+                .id(2L)
+                .name("Phones")
+                .parentCategory(electronics)
+                .build();
+    }
+
+    @Test
+    void toDomain_shouldReturnSharedInstanceForUnchangedCategory() {
+        // Act
+        Category first = mapper.toDomain(phones);
+        Category second = mapper.toDomain(phones);
+        Set<Category> set = mapper.toDomainSet(Set.of(electronics));
+
+        // Assert
+        assertSame(first, second);
+        assertSame(first.getParentCategory(), set.iterator().next());
+        assertEquals(0, registry.getVersion());
+    }
+
+    @Test
+    void toDomain_shouldReplaceCanonicalInstanceWhenCategoryChanges() {
+        // Arrange
+        Category before = mapper.toDomain(phones);
+
+        // Act
+        phones.setName("Mobile Phones");
+        Category after = mapper.toDomain(phones);
+
+        // Assert
+        assertNotSame(before, after);
+        assertEquals("Mobile Phones", after.getName());
+        assertEquals(1, registry.getVersion());
+    }
+
+    @Test
+    void invalidate_shouldEvictDescendantsOfChangedParent() {
+        // Arrange
+        Category child = mapper.toDomain(phones);
+
+        // Act
+        registry.invalidate(electronics.getId());
+        electronics.setName("Consumer Electronics");
+        Category remapped = mapper.toDomain(phones);
+
+        // Assert
+        assertNotSame(child, remapped);
+        assertEquals("Consumer Electronics", remapped.getParentCategory().getName());
+    }
+
+    @Test
+    void toDomain_shouldRefreshParentChainWhenParentChangesWithoutInvalidation() {
+        // Arrange
+        Category child = mapper.toDomain(phones);
+
+        // Act
+        electronics.setName("Consumer Electronics");
+        Category remapped = mapper.toDomain(phones);
+
+        // Assert
+        assertNotSame(child, remapped);
+        assertEquals("Phones", remapped.getName());
+        assertEquals("Consumer Electronics", remapped.getParentCategory().getName());
+        assertSame(remapped, mapper.toDomain(phones));
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadWriteRoutingDataSourceTest {
+    // Same table as the V5 migration creates on the primary
+    private static final String CREATE_HEARTBEAT =
+            "CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaSet replicaSet;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE node (name VARCHAR(16)); INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE node (name VARCHAR(16)); INSERT INTO node VALUES ('replica')");
+        new JdbcTemplate(primary).execute(CREATE_HEARTBEAT);
+        new JdbcTemplate(replica).execute(CREATE_HEARTBEAT);
+
+        replicaSet = new ReplicaSet(primary, Map.of("replica-1", replica), 1000);
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(replicaSet));
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseCaughtUpReplica() {
+        // Arrange
+        replicate(System.currentTimeMillis());
+        replicaSet.check();
+
+        // Act & Assert
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void readOnlyTransaction_shouldFallBackToPrimaryWhenReplicaLags() {
+        // Arrange
+        replicate(System.currentTimeMillis() - 60_000);
+        replicaSet.check();
+
+        // Act & Assert
+        assertFalse(replicaSet.isCaughtUp("replica-1"));
+        assertTrue(replicaSet.getLagMillis("replica-1") >= 60_000);
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readOnlyTransaction_shouldFallBackToPrimaryWhenReplicaIsUnreadable() {
+        // Arrange
+        new JdbcTemplate(replica).execute("DROP TABLE replica_heartbeat");
+        replicaSet.check();
+
+        // Act & Assert
+        assertEquals(-1, replicaSet.getLagMillis("replica-1"));
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    /**
+     * Stands in for replication by copying a heartbeat stamped at {@code beatAt}.
+     */
+    private void replicate(long beatAt) {
+        new JdbcTemplate(replica).update("MERGE INTO replica_heartbeat KEY (id) VALUES (1, ?)", beatAt);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
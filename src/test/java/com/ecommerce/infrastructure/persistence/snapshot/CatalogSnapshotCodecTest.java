@@ -0,0 +1,127 @@
+package com.ecommerce.infrastructure.persistence.snapshot;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogSnapshotCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CatalogSnapshotCodec codec;
+    private Category electronics;
+    private Category phones;
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        codec = new CatalogSnapshotCodec();
+
+        electronics = Category.builder()
+                .id(1L)
+                .name("Electronics")
+                .description("Electronic devices")
+                .build();
+
+        phones = Category.builder()
+                .id(2L)
+                .name("Phones")
+                .parentCategory(electronics)
+                .build();
+
+        phone = Product.builder()
+                .id(10L)
+                .name("Smartphone X")
+                .description("Latest smartphone")
+                .basePrice(new BigDecimal("699.99"))
+                .currentPrice(new BigDecimal("649.99"))
+                .categories(Set.of(phones))
+                .stockQuantity(50)
+                .status(ProductStatus.ACTIVE)
+                .weight(new BigDecimal("0.185"))
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456789))
+                .updatedAt(LocalDateTime.of(2024, 2, 1, 8, 0))
+                .build();
+    }
+
+    @Test
+    void writeThenRead_shouldRoundTripProductsAndCategories() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("catalog.snapshot");
+        Product bare = Product.builder().id(11L).name("Bare").build();
+
+        // Act
+        codec.write(new CatalogSnapshot(42L, List.of(electronics), List.of(phone, bare)), path);
+        CatalogSnapshot snapshot = codec.read(path);
+
+        // Assert
+        assertEquals(42L, snapshot.getCreatedAtEpochMilli());
+        assertEquals(2, snapshot.getCategories().size());
+        assertEquals(2, snapshot.getProducts().size());
+
+        Product restored = snapshot.getProducts().get(0);
+        assertEquals("Smartphone X", restored.getName());
+        assertEquals(new BigDecimal("649.99"), restored.getCurrentPrice());
+        assertEquals(new BigDecimal("0.185"), restored.getWeight());
+        assertNull(restored.getDimensions());
+        assertEquals(50, restored.getStockQuantity());
+        assertEquals(ProductStatus.ACTIVE, restored.getStatus());
+        assertEquals(phone.getCreatedAt(), restored.getCreatedAt());
+
+        Category restoredCategory = restored.getCategories().iterator().next();
+        assertEquals("Phones", restoredCategory.getName());
+        assertEquals("Electronics", restoredCategory.getParentCategory().getName());
+
+        Product restoredBare = snapshot.getProducts().get(1);
+        assertNull(restoredBare.getCategories());
+        assertNull(restoredBare.getStockQuantity());
+        assertNull(restoredBare.getStatus());
+    }
+
+    @Test
+    void read_shouldRejectCorruptedPayload() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("catalog.snapshot");
+        codec.write(new CatalogSnapshot(1L, List.of(), List.of(phone)), path);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            long offset = CatalogSnapshotCodec.HEADER_SIZE + 12;
+            file.seek(offset);
+            int original = file.read();
+            file.seek(offset);
+            file.write(original ^ 0xFF);
+        }
+
+        // Act & Assert
+        CatalogSnapshotException e = assertThrows(CatalogSnapshotException.class, () -> codec.read(path));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void read_shouldRejectUnknownFormatVersion() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("catalog.snapshot");
+        codec.write(new CatalogSnapshot(1L, List.of(), List.of(phone)), path);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(Integer.BYTES);
+            file.writeShort(CatalogSnapshotCodec.FORMAT_VERSION + 1);
+        }
+
+        // Act & Assert
+        CatalogSnapshotException e = assertThrows(CatalogSnapshotException.class, () -> codec.read(path));
+        assertTrue(e.getMessage().contains("format version"));
+    }
+}
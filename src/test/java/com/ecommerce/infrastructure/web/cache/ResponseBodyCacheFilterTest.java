@@ -0,0 +1,132 @@
+package com.ecommerce.infrastructure.web.cache;
+
+import com.ecommerce.application.cache.CatalogVersion;
+import com.ecommerce.domain.event.ProductChangedEvent;
+import com.ecommerce.infrastructure.cache.LoopbackInvalidationTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseBodyCacheFilterTest {
+    private static final String BODY = "[" + "{\"id\":1,\"name\":\"Smartphone X\"},".repeat(100) + "{}]";
+
+    private CatalogVersion catalogVersion;
+    private ResponseBodyCacheFilter filter;
+    private AtomicInteger renders;
+    private FilterChain controller;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion(new LoopbackInvalidationTransport());
+        filter = new ResponseBodyCacheFilter(catalogVersion, 16, 1024, new SimpleMeterRegistry());
+        renders = new AtomicInteger();
+        controller = (request, response) -> {
+            renders.incrementAndGet();
+            response.setContentType("application/json");
+            response.getOutputStream().write(BODY.getBytes());
+        };
+    }
+
+    @Test
+    void doFilter_shouldReplayCachedBodyWithoutRendering() throws Exception {
+        // Arrange
+        filter.doFilter(request(), new MockHttpServletResponse(), controller);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request(), response, controller);
+
+        // Assert
+        assertEquals(1, renders.get());
+        assertEquals(BODY, response.getContentAsString());
+        assertEquals("application/json", response.getContentType());
+    }
+
+    @Test
+    void doFilter_shouldServeGzipVariantWhenAccepted() throws Exception {
+        // Arrange
+        filter.doFilter(request(), new MockHttpServletResponse(), controller);
+        MockHttpServletRequest request = request();
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, controller);
+
+        // Assert
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        byte[] decoded = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())).readAllBytes();
+        assertEquals(BODY, new String(decoded));
+    }
+
+    @Test
+    void doFilter_shouldRenderAgainAfterCatalogChange() throws Exception {
+        // Arrange
+        filter.doFilter(request(), new MockHttpServletResponse(), controller);
+
+        // Act
+        catalogVersion.onProductChanged(ProductChangedEvent.deleted(1L));
+        filter.doFilter(request(), new MockHttpServletResponse(), controller);
+
+        // Assert
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void doFilter_shouldKeySeparatelyByParametersAndAccept() throws Exception {
+        // Arrange
+        MockHttpServletRequest cbor = request();
+        cbor.addHeader("Accept", "application/cbor");
+        MockHttpServletRequest filtered = request();
+        filtered.setParameter("maxPrice", "100");
+
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), controller);
+        filter.doFilter(cbor, new MockHttpServletResponse(), controller);
+        filter.doFilter(filtered, new MockHttpServletResponse(), controller);
+
+        // Assert
+        assertEquals(3, renders.get());
+    }
+
+    @Test
+    void doFilter_shouldEvictLeastRecentlyServedEntryWhenFull() throws Exception {
+        // Arrange
+        for (int page = 0; page < 16; page++) {
+            filter.doFilter(request(page), new MockHttpServletResponse(), controller);
+        }
+        filter.doFilter(request(0), new MockHttpServletResponse(), controller);
+
+        // Act
+        filter.doFilter(request(16), new MockHttpServletResponse(), controller);
+        int rendersAfterInsert = renders.get();
+        filter.doFilter(request(16), new MockHttpServletResponse(), controller);
+        filter.doFilter(request(0), new MockHttpServletResponse(), controller);
+        int rendersAfterHits = renders.get();
+        filter.doFilter(request(1), new MockHttpServletResponse(), controller);
+
+        // Assert
+        assertEquals(17, rendersAfterInsert);
+        assertEquals(17, rendersAfterHits);
+        assertEquals(18, renders.get());
+    }
+
+    private static MockHttpServletRequest request(int page) {
+        MockHttpServletRequest request = request();
+        request.setParameter("page", String.valueOf(page));
+        return request;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/catalog");
+    }
+}
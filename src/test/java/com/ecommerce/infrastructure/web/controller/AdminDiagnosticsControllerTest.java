@@ -0,0 +1,23 @@
+package com.ecommerce.infrastructure.web.controller;
+
+import com.ecommerce.infrastructure.persistence.diagnostics.SlowQueryRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdminDiagnosticsControllerTest {
+    private final AdminDiagnosticsController controller = new AdminDiagnosticsController(
+            new SlowQueryRecorder(50, 200, "EXPLAIN", new SimpleMeterRegistry()));
+
+    @Test
+    void getSlowQueries_shouldRejectALimitBelowOne() {
+        assertEquals(400, controller.getSlowQueries(0).getStatusCode().value());
+        assertEquals(400, controller.getSlowQueries(-1).getStatusCode().value());
+    }
+
+    @Test
+    void getSlowQueries_shouldAcceptAPositiveLimit() {
+        assertEquals(200, controller.getSlowQueries(20).getStatusCode().value());
+    }
+}
@@ -1,5 +1,7 @@
 package com.ecommerce.infrastructure.web.controller;
 
+import com.ecommerce.application.search.SearchMode;
+import com.ecommerce.application.service.AutocompleteService;
 import com.ecommerce.application.service.CatalogBrowsingService;
 import com.ecommerce.domain.model.Category;
 import com.ecommerce.domain.model.Product;
@@ -33,6 +35,9 @@ public class CatalogControllerTest {
     @MockBean
     private CatalogBrowsingService catalogService;
 
+    @MockBean
+    private AutocompleteService autocompleteService;
+
     private Product product1;
     private Product product2;
     private List<Product> productList;
@@ -111,7 +116,7 @@ public class CatalogControllerTest {
     @Test
     void searchProducts_shouldReturnMatchingProducts() throws Exception {
         // Arrange
-        when(catalogService.searchProducts("smart")).thenReturn(List.of(product1));
+        when(catalogService.searchProducts("smart", SearchMode.EXACT, 0, 20)).thenReturn(List.of(product1));
 
         // Act & Assert
         mockMvc.perform(get("/api/catalog/search")
@@ -0,0 +1,91 @@
+package com.ecommerce.infrastructure.web.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static com.ecommerce.infrastructure.web.limit.ConcurrencyLimitFilter.TrafficGroup.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimitFilterTest {
+
+    @Test
+    void classify_shouldSeparateAdminCatalogAndSearchTraffic() {
+        // Act & Assert
+        assertEquals(ADMIN, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("PUT", "/api/admin/products/1")));
+        assertEquals(ADMIN, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/products")));
+        assertEquals(CATALOG, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/products/1")));
+        assertEquals(CATALOG, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/catalog/browse")));
+        assertEquals(SEARCH, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/catalog/search")));
+        assertEquals(SEARCH, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/catalog/autocomplete")));
+        assertNull(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/actuator/health")));
+    }
+
+    @Test
+    void doFilter_shouldRejectWith503WhenGroupLimitIsReached() throws Exception {
+        // Arrange
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.getSearch().setInitialLimit(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, meterRegistry);
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+        MockHttpServletResponse catalog = new MockHttpServletResponse();
+
+        // Act: the nested search request arrives while the outer one holds the only slot
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/catalog/search"), new MockHttpServletResponse(),
+                new MockFilterChain() {
+                    @Override
+                    public void doFilter(ServletRequest request, ServletResponse response)
+                            throws IOException, ServletException {
+                        filter.doFilter(new MockHttpServletRequest("GET", "/api/catalog/search"), nested,
+                                new MockFilterChain());
+                        filter.doFilter(new MockHttpServletRequest("GET", "/api/catalog"), catalog,
+                                new MockFilterChain());
+                    }
+                });
+
+        // Assert
+        assertEquals(503, nested.getStatus());
+        assertEquals("1", nested.getHeader("Retry-After"));
+        assertEquals(200, catalog.getStatus());
+        assertEquals(1.0, meterRegistry.counter("http.concurrency.rejected", "group", "search").count());
+    }
+
+    @Test
+    void limiter_shouldShrinkWhenLatencyRisesAndGrowWhenSaturated() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100, 2.0, 0.5);
+        for (int i = 0; i < 50; i++) {
+            holdAll(limiter, 1_000_000);
+        }
+        int grown = limiter.getLimit();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(50_000_000);
+        }
+
+        // Assert
+        assertTrue(grown > 10, "limit should grow while saturated with fast requests: " + grown);
+        assertTrue(limiter.getLimit() < grown, "limit should shrink once latency rises: " + limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private static void holdAll(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecommerce.infrastructure.web.serialization;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.infrastructure.config.SerializationConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonMergePatchTest {
+
+    private final ObjectMapper mapper = mapper();
+    private final JsonMergePatch mergePatch = new JsonMergePatch(mapper);
+
+    @Test
+    void merge_shouldFollowRfc7386() {
+        assertEquals(json("{\"a\":\"z\",\"c\":{\"d\":\"e\"}}"),
+                JsonMergePatch.merge(json("{\"a\":\"b\",\"c\":{\"d\":\"e\",\"f\":\"g\"}}"),
+                        json("{\"a\":\"z\",\"c\":{\"f\":null}}")));
+        assertEquals(json("{\"a\":[1]}"), JsonMergePatch.merge(json("{\"a\":[1,2]}"), json("{\"a\":[1]}")));
+        assertEquals(json("{\"a\":{\"b\":\"c\"}}"), JsonMergePatch.merge(json("{\"a\":\"x\"}"), json("{\"a\":{\"b\":\"c\"}}")));
+        assertEquals(json("[\"c\"]"), JsonMergePatch.merge(json("{\"a\":\"b\"}"), json("[\"c\"]")));
+    }
+
+    @Test
+    void apply_shouldReturnPatchedCopyAndLeaveTargetUnchanged() {
+        // Arrange
+        Product product = Product.builder()
+                .id(7L)
+                .name("Smartphone X")
+                .currentPrice(new BigDecimal("649.99"))
+                .imageUrl("x.png")
+                .categories(Set.of(Category.builder().id(1L).name("Electronics").build()))
+                .status(ProductStatus.ACTIVE)
+                .build();
+
+        // Act
+        Product patched = mergePatch.apply(product, json("{\"currentPrice\":599.99,\"imageUrl\":null}"), Product.class);
+
+        // Assert
+        assertEquals(new BigDecimal("599.99"), patched.getCurrentPrice());
+        assertNull(patched.getImageUrl());
+        assertEquals("Smartphone X", patched.getName());
+        assertEquals(1L, patched.getCategories().iterator().next().getId());
+        assertEquals("x.png", product.getImageUrl());
+    }
+
+    @Test
+    void apply_shouldRejectNonObjectPatchesAndMistypedValues() {
+        Product product = Product.builder().id(7L).name("Smartphone X").build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> mergePatch.apply(product, json("[1]"), Product.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> mergePatch.apply(product, json("{\"stockQuantity\":\"many\"}"), Product.class));
+    }
+
+    @Test
+    void apply_shouldRejectRemovalOfRequiredMembers() {
+        // Arrange
+        Product product = Product.builder().id(7L).name("Smartphone X").stockQuantity(3).build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> mergePatch.apply(product, json("{\"name\":null}"), Product.class, ProductMixin.REQUIRED));
+        assertThrows(IllegalArgumentException.class,
+                () -> mergePatch.apply(product, json("{\"stockQuantity\":null}"), Product.class, ProductMixin.REQUIRED));
+        assertNull(mergePatch.apply(product, json("{\"description\":null}"), Product.class, ProductMixin.REQUIRED)
+                .getDescription());
+    }
+
+    private JsonNode json(String text) {
+        try {
+            return mapper.readTree(text);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ObjectMapper mapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new SerializationConfig().catalogMixins().customize(builder);
+        return builder.build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.infrastructure.web.serialization;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.infrastructure.config.SerializationConfig;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductMixinTest {
+
+    private final Product product = Product.builder()
+            .id(7L)
+            .name("Smartphone X")
+            .currentPrice(new BigDecimal("649.99"))
+            .categories(Set.of(Category.builder().id(1L).name("Electronics").build()))
+            .status(ProductStatus.ACTIVE)
+            .createdAt(LocalDateTime.of(2024, 5, 1, 12, 30))
+            .build();
+
+    @Test
+    void json_shouldWriteFieldsInStableOrder() throws Exception {
+        // Act
+        String json = mapper(new JsonFactory()).writeValueAsString(product);
+
+        // Assert
+        assertTrue(json.startsWith("{\"id\":7,\"name\":\"Smartphone X\",\"description\":null,\"basePrice\":null,"
+                + "\"currentPrice\":649.99,\"categories\":[{\"id\":1,\"name\":\"Electronics\""), json);
+    }
+
+    @Test
+    void cbor_shouldRoundTripProduct() throws Exception {
+        // Arrange
+        ObjectMapper cbor = mapper(new CBORFactory());
+
+        // Act
+        Product decoded = cbor.readValue(cbor.writeValueAsBytes(product), Product.class);
+
+        // Assert
+        assertEquals(7L, decoded.getId());
+        assertEquals(new BigDecimal("649.99"), decoded.getCurrentPrice());
+        assertEquals(ProductStatus.ACTIVE, decoded.getStatus());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30), decoded.getCreatedAt());
+        assertEquals("Electronics", decoded.getCategories().iterator().next().getName());
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new SerializationConfig().catalogMixins().customize(builder);
+        return builder.factory(factory).build();
+    }
+}
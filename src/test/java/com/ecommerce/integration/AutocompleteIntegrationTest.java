@@ -0,0 +1,56 @@
+package com.ecommerce.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.profiles.active=default"
+})
+@AutoConfigureMockMvc
+class AutocompleteIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void autocomplete_shouldFollowProductWritesWithoutARebuild() throws Exception {
+        // Arrange
+        String created = mockMvc.perform(post("/api/admin/products").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Zephyr Turntable\",\"basePrice\":300,\"currentPrice\":280,"
+                                + "\"stockQuantity\":5,\"status\":\"ACTIVE\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = Long.parseLong(created.replaceAll(".*\"id\":(\\d+).*", "$1"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/catalog/autocomplete").param("prefix", "turnt"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(id));
+
+        mockMvc.perform(delete("/api/admin/products/{id}", id)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/catalog/autocomplete").param("prefix", "turnt"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void autocomplete_shouldClampLargeLimitsAndRejectNonPositiveOnes() throws Exception {
+        mockMvc.perform(get("/api/catalog/autocomplete").param("prefix", "s").param("limit", "2147483647"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/catalog/autocomplete").param("prefix", "s").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,172 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.infrastructure.persistence.JpaProductRepository;
+import com.ecommerce.infrastructure.persistence.diagnostics.SlowQuery;
+import com.ecommerce.infrastructure.persistence.diagnostics.SlowQueryRecorder;
+import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
+import com.ecommerce.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * The schema comes from the Flyway migrations and the catalog's lookups are served by
+ * their indexes. Plans are read with H2's {@code EXPLAIN}, which names the index chosen
+ * for each table in a {@code /* PUBLIC.INDEX_NAME ... *}{@code /} comment.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.profiles.active=default",
+        "catalog.slow-query.threshold-ms=0"
+})
+class CatalogSchemaMigrationTest {
+    private static final int PRODUCTS = 500;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SlowQueryRecorder slowQueryRecorder;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jpaProductRepository.deleteAll();
+            entityManager.createQuery("DELETE FROM CategoryEntity").executeUpdate();
+
+            List<CategoryEntity> categories = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                CategoryEntity category = CategoryEntity.builder().name("Category " + i).build();
+                entityManager.persist(category);
+                categories.add(category);
+            }
+            List<ProductEntity> products = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                products.add(ProductEntity.builder()
+                        .name((i % 2 == 0 ? "Smart Phone " : "Paperback ") + i)
+                        .basePrice(new BigDecimal(100 + i))
+                        .currentPrice(new BigDecimal(90 + i))
+                        .stockQuantity(10)
+                        .status(i % 10 == 0 ? ProductStatus.DISCONTINUED : ProductStatus.ACTIVE)
+                        .categories(Set.of(categories.get(i % categories.size())))
+                        .build());
+            }
+            jpaProductRepository.saveAll(products);
+            categoryId = categories.get(3).getId();
+        });
+        jdbcTemplate.execute("ANALYZE");
+        slowQueryRecorder.reset();
+    }
+
+    @Test
+    void migrations_shouldBeAppliedInOrder() {
+        // Act
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        // Assert
+        assertEquals(List.of("1", "2", "3", "4", "5"), applied);
+    }
+
+    @Test
+    void save_shouldMaintainLowerCasedName() {
+        // Act
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT name_lower FROM products WHERE name = 'Smart Phone 0'", String.class);
+
+        // Assert
+        assertEquals(List.of("smart phone 0"), names);
+        assertEquals(PRODUCTS / 2, jpaProductRepository.findByNameLowerContaining("smart").size());
+    }
+
+    @Test
+    void categoryBrowsing_shouldSeekTheCategoryIndex() throws Exception {
+        // Act
+        int found = jpaProductRepository.findByCategoryId(categoryId).size();
+        String plan = capturedPlan("where pe1_0.id in (select");
+
+        // Assert
+        assertEquals(PRODUCTS / 20, found);
+        assertTrue(plan.contains("PUBLIC.IDX_PRODUCT_CATEGORIES_CATEGORY"), plan);
+    }
+
+    @Test
+    void productCategories_shouldBeReadThroughThePrimaryKey() {
+        assertPlanUses("SELECT category_id FROM product_categories WHERE product_id = 7", "PRIMARY_KEY");
+    }
+
+    @Test
+    void activeProductsByPrice_shouldSeekTheStatusPriceIndex() {
+        assertPlanUses("SELECT id FROM products WHERE status = 'ACTIVE' AND current_price BETWEEN 100 AND 120 "
+                + "ORDER BY current_price", "IDX_PRODUCTS_STATUS_PRICE");
+    }
+
+    @Test
+    void recentlyUpdatedProducts_shouldSeekTheUpdatedAtIndex() {
+        assertPlanUses("SELECT id FROM products WHERE updated_at > DATEADD('MINUTE', 5, CURRENT_TIMESTAMP)",
+                "IDX_PRODUCTS_UPDATED_AT");
+        assertPlanUses("SELECT id FROM products WHERE status = 'DISCONTINUED' "
+                + "AND updated_at < DATEADD('DAY', -30, CURRENT_TIMESTAMP)", "IDX_PRODUCTS_STATUS_UPDATED");
+    }
+
+    @Test
+    void caseInsensitiveNamePrefix_shouldSeekTheLowerCasedNameIndex() {
+        assertPlanUses("SELECT id FROM products WHERE name_lower LIKE 'smart phone 4%'", "IDX_PRODUCTS_NAME_LOWER");
+        assertPlanUses("SELECT id FROM products WHERE name_lower = 'paperback 9'", "IDX_PRODUCTS_NAME_LOWER");
+    }
+
+    /**
+     * Plan of a statement Hibernate issued, as captured by the {@link SlowQueryRecorder}
+     * with its threshold at zero.
+     */
+    private String capturedPlan(String fragment) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            for (SlowQuery query : slowQueryRecorder.top(50)) {
+                if (query.statement().contains(fragment) && query.plan() != null) {
+                    return query.plan();
+                }
+            }
+            Thread.sleep(20);
+        }
+        return fail("No plan captured containing '" + fragment + "': " + slowQueryRecorder.top(50));
+    }
+
+    private void assertPlanUses(String sql, String index) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertTrue(plan.contains("PUBLIC." + index), () -> "Expected " + index + " in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecommerce.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.profiles.active=default"
+})
+@AutoConfigureMockMvc
+class CatalogSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc.perform(post("/api/admin/products").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Quietline Buds\",\"description\":\"Sealed over-ear cushions\","
+                                + "\"basePrice\":80,\"currentPrice\":70,\"stockQuantity\":5,\"status\":\"ACTIVE\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void exactSearch_shouldMatchSubstringsInsideWords() throws Exception {
+        mockMvc.perform(get("/api/catalog/search").param("keyword", "ealed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", hasItem("Quietline Buds")));
+        mockMvc.perform(get("/api/catalog/search").param("keyword", "%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void search_shouldServeRepeatedPagesFromTheNearCache() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/catalog/search").param("keyword", "Quietline")).andExpect(status().isOk());
+        double hits = meterRegistry.counter("catalog.near_cache.requests", "result", "hit").count();
+
+        // Act
+        mockMvc.perform(get("/api/catalog/search").param("keyword", "QUIETLINE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Quietline Buds"));
+
+        // Assert
+        assertEquals(hits + 1, meterRegistry.counter("catalog.near_cache.requests", "result", "hit").count());
+    }
+
+    @Test
+    void search_shouldReturnAnEmptyPageFarBeyondTheResults() throws Exception {
+        mockMvc.perform(get("/api/catalog/search").param("keyword", "quietline")
+                        .param("page", String.valueOf(Integer.MAX_VALUE)).param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/catalog/search").param("keyword", "quietlin").param("mode", "FUZZY")
+                        .param("page", String.valueOf(Integer.MAX_VALUE)).param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+}
@@ -0,0 +1,348 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.search.ProductSearchIndex;
+import com.ecommerce.application.service.ProductManagementService;
+import com.ecommerce.domain.model.ProductSelection;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.infrastructure.persistence.JpaProductRepository;
+import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
+import com.ecommerce.infrastructure.persistence.entity.ProductEntity;
+import com.ecommerce.infrastructure.persistence.mapper.CategoryRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets per endpoint against the JPA adapter. Caches are disabled so every
+ * request reaches the database; a budget that grows with the number of products means a
+ * lazy association is being loaded one row at a time.
+ *
+ * <p>The test {@code application.properties} shadows the main one, so the latter is loaded
+ * explicitly to run against the production settings.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.profiles.active=default",
+        "catalog.near-cache.ttl-ms=0",
+        "catalog.response-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@Import(SqlStatementCountingConfiguration.class)
+class ControllerQueryBudgetIntegrationTest {
+    private static final int PRODUCTS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductSearchIndex searchIndex;
+
+    @Autowired
+    private ProductManagementService productService;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    private Long productId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jpaProductRepository.deleteAll();
+            entityManager.createQuery("UPDATE CategoryEntity c SET c.parentCategory = NULL").executeUpdate();
+            entityManager.createQuery("DELETE FROM CategoryEntity").executeUpdate();
+
+            CategoryEntity electronics = category("Electronics", null);
+            CategoryEntity phones = category("Phones", electronics);
+            List<CategoryEntity> leaves = new ArrayList<>();
+            for (int tree = 0; tree < 3; tree++) {
+                leaves.add(category("Leaf " + tree, category("Branch " + tree, category("Root " + tree, null))));
+            }
+            CategoryEntity books = category("Books", null);
+            List<ProductEntity> products = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                products.add(ProductEntity.builder()
+                        .name("Product " + i)
+                        .description(i % 2 == 0 ? "Smart phone model " + i : "Paperback edition " + i)
+                        .basePrice(new BigDecimal(100 + i))
+                        .currentPrice(new BigDecimal(90 + i))
+                        .stockQuantity(10)
+                        .status(ProductStatus.ACTIVE)
+                        .categories(i % 2 == 0 ? Set.of(electronics, phones) : Set.of(books, leaves.get(i % 3)))
+                        .build());
+            }
+            jpaProductRepository.saveAll(products);
+            productId = products.get(0).getId();
+            categoryId = phones.getId();
+        });
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void catalogReads_shouldUseOneSelectRegardlessOfResultSize() throws Exception {
+        assertSelects(get("/api/catalog"), 1);
+        assertSelects(get("/api/catalog/category/{id}", categoryId), 1);
+        // Exact search selects the matching ids, then loads only the requested page
+        assertSelects(get("/api/catalog/search").param("keyword", "smart").param("size", "50"), 2);
+        assertSelects(get("/api/catalog/search").param("keyword", "smart").param("mode", "FUZZY")
+                .param("size", "50"), 1);
+        assertSelects(get("/api/catalog/sort/price-asc"), 1);
+        assertSelects(get("/api/catalog/sort/price-desc"), 1);
+        assertSelects(get("/api/catalog/filter/price").param("minPrice", "95"), 1);
+        assertSelects(get("/api/catalog/browse").param("categoryId", categoryId.toString()).param("sortBy", "price_asc"), 1);
+    }
+
+    @Test
+    void deepCategoryTrees_shouldLoadAncestorsAboveTheFetchGraphInOneBatch() throws Exception {
+        // Three distinct roots sit above the fetched parents: one batched select while the
+        // registry is cold, none once it knows them
+        categoryRegistry.invalidateAll();
+        assertSelects(get("/api/products"), 2);
+        assertSelects(get("/api/products"), 1);
+    }
+
+    @Test
+    void autocomplete_shouldNotQueryTheDatabase() throws Exception {
+        assertSelects(get("/api/catalog/autocomplete").param("prefix", "prod"), 0);
+    }
+
+    @Test
+    void productReads_shouldUseOneSelect() throws Exception {
+        assertSelects(get("/api/products"), 1);
+        assertSelects(get("/api/products/{id}", productId), 1);
+        assertSelects(get("/api/products/category/{id}", categoryId), 1);
+        assertSelects(get("/api/products/search").param("name", "product"), 1);
+        assertSelects(get("/api/admin/products"), 1);
+        assertSelects(get("/api/admin/products/{id}", productId), 1);
+    }
+
+    @Test
+    void createProduct_shouldCheckCategoryIdsOnceAndNeverLoadThem() throws Exception {
+        // Arrange
+        String body = "{\"name\":\"Tablet\",\"basePrice\":300,\"currentPrice\":280,\"stockQuantity\":5,"
+                + "\"status\":\"ACTIVE\",\"categories\":[{\"id\":" + categoryId + ",\"name\":\"Phones\"}]}";
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(post("/api/admin/products").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+        // Assert
+        SqlStatementCounter.assertStatements("POST /api/admin/products", 1, 2, 0, 0);
+        assertEquals(List.of("select ce1_0.id from categories ce1_0 where ce1_0.id in (?)"),
+                SqlStatementCounter.statements("select"));
+    }
+
+    @Test
+    void createProduct_shouldRejectUnknownCategoriesWithoutWriting() throws Exception {
+        // Arrange
+        String body = "{\"name\":\"Tablet\",\"basePrice\":300,\"currentPrice\":280,\"stockQuantity\":5,"
+                + "\"status\":\"ACTIVE\",\"categories\":[{\"id\":" + categoryId + "},{\"id\":-1}]}";
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(post("/api/admin/products").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest());
+
+        // Assert
+        SqlStatementCounter.assertStatements("POST /api/admin/products (unknown category)", 1, 0, 0, 0);
+    }
+
+    @Test
+    void updateProductStock_shouldStayWithinBudget() throws Exception {
+        // Arrange
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(patch("/api/admin/products/{id}/stock", productId).param("quantity", "3"))
+                .andExpect(status().isOk());
+
+        // Assert
+        SqlStatementCounter.assertStatements("PATCH /api/admin/products/{id}/stock", 1, 0, 1, 0);
+    }
+
+    @Test
+    void deleteProduct_shouldStayWithinBudget() throws Exception {
+        // Arrange
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(delete("/api/admin/products/{id}", productId))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        SqlStatementCounter.assertStatements("DELETE /api/admin/products/{id}", 1, 0, 0, 2);
+    }
+
+    @Test
+    void mergePatch_shouldUpdateOnlyTheChangedColumns() throws Exception {
+        // Arrange
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(patch("/api/admin/products/{id}", productId).contentType("application/merge-patch+json")
+                        .content("{\"currentPrice\":55.5,\"imageUrl\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentPrice").value(55.5))
+                .andExpect(jsonPath("$.name").value("Product 0"));
+
+        // Assert
+        SqlStatementCounter.assertStatements("PATCH /api/admin/products/{id}", 1, 0, 1, 0);
+        assertEquals(List.of("update products set current_price=?,updated_at=? where id=?"),
+                SqlStatementCounter.statements("update"));
+    }
+
+    @Test
+    void mergePatch_shouldRewriteOnlyTheChangedCategoryLinks() throws Exception {
+        // Arrange
+        Long electronicsId = entityManager.createQuery(
+                "SELECT c.id FROM CategoryEntity c WHERE c.name = 'Electronics'", Long.class).getSingleResult();
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(patch("/api/products/{id}", productId).contentType("application/merge-patch+json")
+                        .content("{\"categories\":[{\"id\":" + electronicsId + "}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories.length()").value(1));
+
+        // Assert
+        SqlStatementCounter.assertStatements("PATCH /api/products/{id} categories", 1, 0, 1, 1);
+        assertEquals(1, SqlStatementCounter.statements("delete from product_categories").size());
+    }
+
+    @Test
+    void mergePatch_shouldRejectValuesOfTheWrongType() throws Exception {
+        mockMvc.perform(patch("/api/admin/products/{id}", productId).contentType("application/merge-patch+json")
+                        .content("{\"stockQuantity\":\"many\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void mergePatch_shouldRejectRemovingRequiredFieldsWithoutWriting() throws Exception {
+        // Arrange
+        SqlStatementCounter.reset();
+
+        // Act & Assert
+        for (String uri : List.of("/api/products/{id}", "/api/admin/products/{id}")) {
+            for (String field : List.of("name", "basePrice", "currentPrice", "stockQuantity", "status")) {
+                mockMvc.perform(patch(uri, productId).contentType("application/merge-patch+json")
+                                .content("{\"" + field + "\":null}"))
+                        .andExpect(status().isBadRequest());
+            }
+        }
+        assertEquals(List.of(), SqlStatementCounter.statements("update"));
+    }
+
+    @Test
+    void bulkDeleteByIds_shouldDiscontinueWithOneUpdate() throws Exception {
+        // Arrange
+        List<Long> ids = jpaProductRepository.findIds(null, "product 1", null);
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(post("/api/admin/products/bulk-delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":" + ids + "}"))
+                .andExpect(status().isOk());
+
+        // Assert
+        SqlStatementCounter.assertStatements("POST /api/admin/products/bulk-delete (ids)", 0, 0, 1, 0);
+        assertEquals(ids.size(), jpaProductRepository.findIds(null, null, ProductStatus.DISCONTINUED).size());
+    }
+
+    @Test
+    void bulkDeleteByQuery_shouldSelectIdsAndDiscontinueWithOneUpdate() throws Exception {
+        // Arrange
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(post("/api/admin/products/bulk-delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":" + categoryId + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matched").value(PRODUCTS / 2))
+                .andExpect(jsonPath("$.affected").value(PRODUCTS / 2));
+
+        // Assert
+        SqlStatementCounter.assertStatements("POST /api/admin/products/bulk-delete (category)", 1, 0, 1, 0);
+    }
+
+    @Test
+    void hardBulkDelete_shouldDeleteLinksAndProductsWithOneStatementEach() throws Exception {
+        // Arrange
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(post("/api/admin/products/bulk-delete").param("hard", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":" + categoryId + "}"))
+                .andExpect(status().isOk());
+
+        // Assert
+        SqlStatementCounter.assertStatements("POST /api/admin/products/bulk-delete?hard=true", 1, 0, 0, 2);
+        assertEquals(PRODUCTS / 2, jpaProductRepository.count());
+    }
+
+    @Test
+    void bulkDeleteWithoutSelection_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/api/admin/products/bulk-delete").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void purgeDiscontinued_shouldDeleteTombstonesInBoundedBatches() {
+        // Arrange
+        productService.deleteProducts(ProductSelection.builder().categoryId(categoryId).build(), false);
+        SqlStatementCounter.reset();
+
+        // Act
+        int purged = productService.purgeDiscontinued(LocalDateTime.now().plusMinutes(1), 10);
+
+        // Assert
+        assertEquals(10, purged);
+        SqlStatementCounter.assertStatements("purgeDiscontinued", 1, 0, 0, 2);
+        assertEquals(PRODUCTS - 10, jpaProductRepository.count());
+    }
+
+    private void assertSelects(RequestBuilder request, long selects) throws Exception {
+        SqlStatementCounter.reset();
+        MockHttpServletRequest sent = mockMvc.perform(request).andExpect(status().isOk()).andReturn().getRequest();
+        String query = sent.getQueryString() != null ? "?" + sent.getQueryString() : "";
+        SqlStatementCounter.assertSelects("GET " + sent.getRequestURI() + query, selects);
+    }
+
+    private CategoryEntity category(String name, CategoryEntity parent) {
+        CategoryEntity category = CategoryEntity.builder().name(name).parentCategory(parent).build();
+        entityManager.persist(category);
+        return category;
+    }
+}
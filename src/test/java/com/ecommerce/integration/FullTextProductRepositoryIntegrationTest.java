@@ -0,0 +1,96 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.infrastructure.persistence.H2FullTextProductPortAdapter;
+import com.ecommerce.infrastructure.persistence.JpaProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(locations = {
+        "file:src/main/resources/application.properties",
+        "file:src/main/resources/application-fulltext.properties"
+}, properties = {
+        "spring.profiles.active=fulltext",
+        // Own database: its full-text migration would fail validation in the other contexts
+        "spring.datasource.url=jdbc:h2:mem:fulltextdb"
+})
+class FullTextProductRepositoryIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        jpaProductRepository.deleteAll();
+        phone = productRepository.save(product("Smart Phone", "Wireless charging and a bright display"));
+        productRepository.save(product("Paperback Novel", "A phone-free weekend read"));
+    }
+
+    @Test
+    void productRepository_shouldBeTheFullTextAdapter() {
+        assertInstanceOf(H2FullTextProductPortAdapter.class, productRepository);
+    }
+
+    @Test
+    void keywordLookups_shouldMatchWholeWordsPerField() {
+        assertEquals(List.of("Smart Phone"), names(productRepository.findByNameContaining("PHONE")));
+        assertEquals(List.of("Paperback Novel"), names(productRepository.findByDescriptionContaining("phone free")));
+        assertEquals(2, productRepository.findByNameOrDescriptionContaining("phone").size());
+        assertTrue(productRepository.findByNameContaining("smartphone").isEmpty());
+        assertTrue(productRepository.findByNameOrDescriptionContaining("  ").isEmpty());
+    }
+
+    @Test
+    void save_shouldReindexChangedText() {
+        // Arrange
+        phone.setName("Foldable Handset");
+
+        // Act
+        productRepository.save(phone);
+
+        // Assert
+        assertTrue(productRepository.findByNameContaining("phone").isEmpty());
+        assertEquals(List.of("Foldable Handset"), names(productRepository.findByNameContaining("handset")));
+    }
+
+    @Test
+    void deleteById_shouldRemoveProductFromIndex() {
+        // Act
+        productRepository.deleteById(phone.getId());
+
+        // Assert
+        assertTrue(productRepository.findByDescriptionContaining("wireless").isEmpty());
+        assertEquals(List.of("Paperback Novel"), names(productRepository.findByNameOrDescriptionContaining("phone")));
+    }
+
+    private static List<String> names(List<Product> products) {
+        return products.stream().map(Product::getName).sorted().toList();
+    }
+
+    private static Product product(String name, String description) {
+        return Product.builder()
+                .name(name)
+                .description(description)
+                .basePrice(new BigDecimal("100.00"))
+                .currentPrice(new BigDecimal("90.00"))
+                .stockQuantity(10)
+                .status(ProductStatus.ACTIVE)
+                .build();
+    }
+}
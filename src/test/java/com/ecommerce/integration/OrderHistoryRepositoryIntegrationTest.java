@@ -0,0 +1,134 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderCursor;
+import com.ecommerce.domain.model.OrderHistoryPage;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderStatus;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.persistence.JpaOrderHistoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.profiles.active=default"
+})
+class OrderHistoryRepositoryIntegrationTest {
+    private static final long CUSTOMER = 7L;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private JpaOrderHistoryAdapter orderHistory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+        // Two orders a day, every third day placed at the same instant
+        for (int i = 0; i < 240; i++) {
+            LocalDateTime placed = START.plusDays(i / 2).plusHours(i % 2 == 0 || (i / 2) % 3 == 0 ? 0 : 5);
+            orderHistory.save(order(CUSTOMER, placed, i));
+            if (i % 10 == 0) {
+                orderHistory.save(order(CUSTOMER + 1, placed, i));
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void findRecent_shouldPageThroughTheHistoryNewestFirstWithoutGapsOrRepeats() {
+        // Act
+        List<Order> seen = new ArrayList<>();
+        OrderCursor cursor = null;
+        int pages = 0;
+        do {
+            OrderHistoryPage page = orderHistory.findRecent(CUSTOMER, cursor, 50);
+            seen.addAll(page.getOrders());
+            cursor = page.getNext();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(5, pages);
+        assertEquals(240, seen.size());
+        assertEquals(240, seen.stream().map(Order::getId).distinct().count());
+        assertEquals(seen.stream().sorted(Comparator.comparing(Order::getOrderDate).thenComparing(Order::getId)
+                .reversed()).toList(), seen);
+        assertTrue(seen.stream().allMatch(order -> order.getCustomer().getId() == CUSTOMER));
+    }
+
+    @Test
+    void findRecent_shouldMapItemsAndMarkTheLastPage() {
+        // Act
+        OrderHistoryPage page = orderHistory.findRecent(CUSTOMER + 1, null, 100);
+
+        // Assert
+        assertEquals(24, page.getOrders().size());
+        assertFalse(page.hasMore());
+        assertNull(page.getNext());
+        OrderItem item = page.getOrders().get(0).getOrderItems().get(1);
+        assertEquals(2, item.getQuantity());
+        assertEquals(0, new BigDecimal("230.00").compareTo(item.getPriceAtPurchase()));
+    }
+
+    @Test
+    void findByMonth_shouldReturnOnlyThatMonthNewestFirst() {
+        // Act
+        List<Order> february = orderHistory.findByMonth(CUSTOMER, YearMonth.of(2024, 2));
+
+        // Assert
+        assertEquals(58, february.size());
+        assertTrue(february.stream().allMatch(order -> YearMonth.from(order.getOrderDate()).getMonthValue() == 2));
+        assertTrue(february.get(0).getOrderDate().isAfter(february.get(57).getOrderDate()));
+    }
+
+    @Test
+    void historyQueries_shouldReadTheCustomerDateIndexInOrder() {
+        assertSortedBy("SELECT id FROM orders WHERE customer_id = 7"
+                + " ORDER BY customer_id, order_date DESC, id DESC LIMIT 51");
+        assertSortedBy("SELECT id FROM orders WHERE customer_id = 7 AND order_date <= TIMESTAMP '2024-03-01 09:00:00'"
+                + " AND (order_date < TIMESTAMP '2024-03-01 09:00:00' OR id < 100)"
+                + " ORDER BY customer_id, order_date DESC, id DESC LIMIT 51");
+    }
+
+    private void assertSortedBy(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertTrue(plan.contains("PUBLIC.IDX_ORDERS_CUSTOMER_DATE") && plan.contains("index sorted"),
+                () -> "Expected a sorted read of IDX_ORDERS_CUSTOMER_DATE in plan:\n" + plan);
+    }
+
+    private static Order order(long customerId, LocalDateTime placed, int i) {
+        return Order.builder()
+                .customer(Customer.builder().id(customerId).build())
+                .orderDate(placed)
+                .status(OrderStatus.DELIVERED)
+                .orderItems(List.of(
+                        OrderItem.builder().product(Product.builder().id(1L).build()).quantity(1)
+                                .priceAtPurchase(new BigDecimal("10.00")).build(),
+                        OrderItem.builder().product(Product.builder().id(2L).build()).quantity(2)
+                                .priceAtPurchase(new BigDecimal(i)).build()))
+                .totalPrice(new BigDecimal(10 + 2 * i))
+                .build();
+    }
+}
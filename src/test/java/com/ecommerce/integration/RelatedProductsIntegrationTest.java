@@ -0,0 +1,113 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.service.OrderService;
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.infrastructure.persistence.JpaProductRepository;
+import com.ecommerce.infrastructure.persistence.entity.ProductEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.profiles.active=default"
+})
+@AutoConfigureMockMvc
+class RelatedProductsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    private Long phone;
+    private Long charger;
+    private Long cable;
+    private Long discontinued;
+
+    @BeforeEach
+    void setUp() {
+        phone = product("Phone", ProductStatus.ACTIVE);
+        charger = product("Charger", ProductStatus.ACTIVE);
+        cable = product("Cable", ProductStatus.ACTIVE);
+        discontinued = product("Old case", ProductStatus.DISCONTINUED);
+        orderService.placeOrder(order(phone, charger, cable));
+        orderService.placeOrder(order(phone, charger));
+        orderService.placeOrder(order(phone, discontinued));
+    }
+
+    @Test
+    void getRelatedProducts_shouldListActiveCoPurchasesMostFrequentFirst() throws Exception {
+        mockMvc.perform(get("/api/products/{id}/related", phone))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(charger))
+                .andExpect(jsonPath("$[1].id").value(cable));
+
+        mockMvc.perform(get("/api/products/{id}/related", phone).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getRelatedProducts_shouldClampLargeLimitsToTheKeptNeighbours() throws Exception {
+        mockMvc.perform(get("/api/products/{id}/related", phone).param("limit", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(charger));
+    }
+
+    @Test
+    void getRelatedProducts_shouldBeEmptyForProductsNeverOrderedWithOthers() throws Exception {
+        mockMvc.perform(get("/api/products/{id}/related", product("Lonely", ProductStatus.ACTIVE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/products/{id}/related", phone).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long product(String name, ProductStatus status) {
+        return jpaProductRepository.save(ProductEntity.builder()
+                .name(name)
+                .basePrice(BigDecimal.TEN)
+                .currentPrice(BigDecimal.TEN)
+                .stockQuantity(10)
+                .status(status)
+                .build()).getId();
+    }
+
+    private static Order order(Long... productIds) {
+        List<OrderItem> items = Arrays.stream(productIds)
+                .map(id -> OrderItem.builder()
+                        .product(Product.builder().id(id).build())
+                        .quantity(1)
+                        .priceAtPurchase(BigDecimal.TEN)
+                        .build())
+                .toList();
+        return Order.builder()
+                .customer(Customer.builder().id(3L).build())
+                .orderItems(items)
+                .totalPrice(BigDecimal.TEN.multiply(BigDecimal.valueOf(items.size())))
+                .build();
+    }
+}
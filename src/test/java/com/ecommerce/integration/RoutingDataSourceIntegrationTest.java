@@ -0,0 +1,116 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.search.ProductSearchIndex;
+import com.ecommerce.application.search.Suggestion;
+import com.ecommerce.application.service.AutocompleteService;
+import com.ecommerce.domain.event.CacheInvalidationMessage;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.domain.port.InvalidationTransport;
+import com.ecommerce.domain.port.ProductRepository;
+import com.ecommerce.infrastructure.persistence.JpaProductRepository;
+import com.ecommerce.infrastructure.persistence.entity.ProductEntity;
+import com.ecommerce.infrastructure.persistence.routing.ReplicaSet;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots with read/write routing enabled against a fresh database. The replica has the
+ * schema and a heartbeat pinned in the future, so it always counts as caught up, but no
+ * writes ever reach it: a read served by the replica misses every product.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.profiles.active=default",
+        "spring.datasource.url=jdbc:h2:mem:routingdb",
+        "catalog.datasource.routing.enabled=true",
+        "catalog.datasource.replicas[0].name=replica-1",
+        "catalog.datasource.replicas[0].url=" + RoutingDataSourceIntegrationTest.REPLICA_URL,
+        "catalog.datasource.replicas[0].username=sa",
+        "catalog.datasource.replicas[0].password=password"
+})
+class RoutingDataSourceIntegrationTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:routingdb-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private InvalidationTransport transport;
+
+    @Autowired
+    private ProductSearchIndex searchIndex;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "password");
+        Flyway.configure().dataSource(replica).locations("classpath:db/migration").load().migrate();
+        new JdbcTemplate(replica).update("MERGE INTO replica_heartbeat KEY (id) VALUES (1, ?)", Long.MAX_VALUE / 2);
+        replicaSet.check();
+    }
+
+    @Test
+    void freshDatabase_shouldBeMigratedFromV1RatherThanBaselined() {
+        // Act
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        // Assert
+        assertEquals(List.of("1", "2", "3", "4", "5"), applied);
+    }
+
+    @Test
+    void check_shouldMeasureReplicaLagFromTheMigratedHeartbeatTable() {
+        assertTrue(replicaSet.isCaughtUp("replica-1"));
+        assertEquals(0, replicaSet.getLagMillis("replica-1"));
+    }
+
+    @Test
+    void remoteInvalidation_shouldRereadTheProductFromThePrimary() {
+        // Arrange: written on "another node", so only the invalidation arrives here
+        Long id = jpaProductRepository.save(ProductEntity.builder()
+                .name("Routed lantern")
+                .basePrice(BigDecimal.TEN)
+                .currentPrice(BigDecimal.TEN)
+                .stockQuantity(5)
+                .status(ProductStatus.ACTIVE)
+                .build()).getId();
+
+        // Act
+        transport.publish(new CacheInvalidationMessage("other-node", id, System.currentTimeMillis()));
+
+        // Assert
+        assertTrue(productRepository.findById(id).isEmpty(), "read-only reads should be served by the replica");
+        assertEquals(List.of(id), searchIndex.rank("lantern", 10));
+        assertEquals(List.of(id), autocompleteService.complete("routed lan", 10).stream()
+                .map(Suggestion::getId)
+                .toList());
+    }
+}
@@ -0,0 +1,171 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.analytics.SalesRollups;
+import com.ecommerce.application.service.OrderService;
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.MembershipTier;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductStatus;
+import com.ecommerce.domain.model.RollupGranularity;
+import com.ecommerce.domain.model.SalesDimension;
+import com.ecommerce.domain.model.SalesRollup;
+import com.ecommerce.infrastructure.persistence.JpaProductRepository;
+import com.ecommerce.infrastructure.persistence.entity.CategoryEntity;
+import com.ecommerce.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.profiles.active=default"
+})
+@AutoConfigureMockMvc
+class SalesAnalyticsIntegrationTest {
+    private static final LocalDateTime HOUR = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
+    private static final LocalDateTime PLACED = HOUR.plusMinutes(25);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SalesRollups salesRollups;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM sales_rollups");
+        transactionTemplate.executeWithoutResult(status -> {
+            CategoryEntity category = CategoryEntity.builder().name("Analytics " + System.nanoTime()).build();
+            entityManager.persist(category);
+            ProductEntity product = jpaProductRepository.save(ProductEntity.builder()
+                    .name("Rolled up")
+                    .basePrice(new BigDecimal("40.00"))
+                    .currentPrice(new BigDecimal("40.00"))
+                    .stockQuantity(100)
+                    .status(ProductStatus.ACTIVE)
+                    .categories(Set.of(category))
+                    .build());
+            productId = product.getId();
+            categoryId = category.getId();
+        });
+    }
+
+    @Test
+    void placedOrders_shouldBeServedFromTheRollupsAndPersistedOnFlush() throws Exception {
+        // Act
+        orderService.placeOrder(order(2));
+        orderService.placeOrder(order(3));
+        salesRollups.flush();
+
+        // Assert
+        mockMvc.perform(get("/api/admin/analytics/sales")
+                        .param("granularity", "HOUR")
+                        .param("dimension", "CATEGORY")
+                        .param("from", HOUR.toString())
+                        .param("to", HOUR.plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.key == '" + categoryId + "')].units").value(5))
+                .andExpect(jsonPath("$[?(@.key == '" + categoryId + "')].revenue").value(200.0));
+        List<Map<String, Object>> stored = jdbcTemplate.queryForList("SELECT granularity, units, revenue "
+                + "FROM sales_rollups WHERE dimension = 'MEMBERSHIP_TIER' AND dimension_key = 'PREMIUM' "
+                + "ORDER BY granularity");
+        assertEquals(2, stored.size());
+        assertEquals("DAY", stored.get(0).get("GRANULARITY"));
+        assertEquals(5L, ((Number) stored.get(1).get("UNITS")).longValue());
+        assertEquals(0, new BigDecimal("200.00").compareTo((BigDecimal) stored.get(1).get("REVENUE")));
+    }
+
+    @Test
+    void flush_shouldAddToTotalsWrittenByOtherNodesAndToEvictedWindows() {
+        // Arrange
+        LocalDateTime evicted = HOUR.minusDays(5);
+        storeRollup(HOUR, 10, "400.00");
+        storeRollup(evicted, 7, "280.00");
+        Order late = order(3);
+        late.setOrderDate(evicted.plusMinutes(10));
+
+        // Act
+        orderService.placeOrder(order(2));
+        salesRollups.record(late);
+        salesRollups.flush();
+
+        // Assert
+        assertEquals(12L, storedUnits(HOUR));
+        assertEquals(10L, storedUnits(evicted));
+        List<SalesRollup> served = salesRollups.query(RollupGranularity.HOUR, SalesDimension.MEMBERSHIP_TIER,
+                evicted, HOUR.plusHours(1));
+        assertEquals(List.of(HOUR), served.stream().map(SalesRollup::getWindowStart).toList());
+        assertEquals(12L, served.get(0).getUnits());
+    }
+
+    @Test
+    void getSales_shouldRejectAnEmptyRange() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/sales")
+                        .param("from", "2024-05-17T15:00:00")
+                        .param("to", "2024-05-17T14:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void storeRollup(LocalDateTime window, long units, String revenue) {
+        jdbcTemplate.update("INSERT INTO sales_rollups VALUES ('HOUR', 'MEMBERSHIP_TIER', 'PREMIUM', ?, ?, ?)",
+                window, units, new BigDecimal(revenue));
+    }
+
+    private long storedUnits(LocalDateTime window) {
+        return jdbcTemplate.queryForObject("SELECT units FROM sales_rollups WHERE granularity = 'HOUR' "
+                + "AND dimension = 'MEMBERSHIP_TIER' AND dimension_key = 'PREMIUM' AND window_start = ?",
+                Long.class, window);
+    }
+
+    private Order order(int quantity) {
+        return Order.builder()
+                .customer(Customer.builder().id(42L).membershipTier(MembershipTier.PREMIUM).build())
+                .orderDate(PLACED)
+                .orderItems(List.of(OrderItem.builder()
+                        .product(Product.builder().id(productId).build())
+                        .quantity(quantity)
+                        .priceAtPurchase(new BigDecimal("40.00"))
+                        .build()))
+                .totalPrice(new BigDecimal(40 * quantity))
+                .build();
+    }
+}
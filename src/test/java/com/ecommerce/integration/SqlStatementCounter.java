@@ -0,0 +1,58 @@
+package com.ecommerce.integration;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the SQL statements the current thread sends through the data source proxy
+ * installed by {@link SqlStatementCountingConfiguration}, and keeps their text. Call
+ * {@link #reset()} before the unit of work and one of the assertions after it.
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    private SqlStatementCounter() {
+    }
+
+    public static void reset() {
+        QueryCountHolder.clear();
+        STATEMENTS.get().clear();
+    }
+
+    static void record(String statement) {
+        STATEMENTS.get().add(statement);
+    }
+
+    /**
+     * Statements sent since the last {@link #reset()} whose text starts with {@code prefix},
+     * ignoring case.
+     */
+    public static List<String> statements(String prefix) {
+        return STATEMENTS.get().stream()
+                .filter(statement -> statement.regionMatches(true, 0, prefix, 0, prefix.length()))
+                .toList();
+    }
+
+    public static QueryCount current() {
+        return QueryCountHolder.getGrandTotal();
+    }
+
+    public static void assertSelects(String unitOfWork, long selects) {
+        assertStatements(unitOfWork, selects, 0, 0, 0);
+    }
+
+    public static void assertStatements(String unitOfWork, long selects, long inserts, long updates, long deletes) {
+        QueryCount count = current();
+        assertAll(unitOfWork,
+                () -> assertEquals(selects, count.getSelect(), unitOfWork + " selects"),
+                () -> assertEquals(inserts, count.getInsert(), unitOfWork + " inserts"),
+                () -> assertEquals(updates, count.getUpdate(), unitOfWork + " updates"),
+                () -> assertEquals(deletes, count.getDelete(), unitOfWork + " deletes"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.integration;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every {@link DataSource} bean in a datasource-proxy that counts statements per
+ * thread, read back through {@link SqlStatementCounter}.
+ */
+@TestConfiguration
+public class SqlStatementCountingConfiguration {
+
+    @Bean
+    static BeanPostProcessor sqlStatementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .countQuery()
+                            .afterQuery((execution, queries) ->
+                                    queries.forEach(query -> SqlStatementCounter.record(query.getQuery())))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
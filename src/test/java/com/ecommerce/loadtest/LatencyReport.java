@@ -0,0 +1,128 @@
+package com.ecommerce.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms in microseconds, with baseline storage and comparison.
+ * A baseline also stores the settings it was recorded with, under {@code run.}, since
+ * percentiles measured at another rate or duration are not comparable.
+ */
+public class LatencyReport {
+    private static final double[] PERCENTILES = { 50, 99, 99.9 };
+    private static final String[] LABELS = { "p50", "p99", "p999" };
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final String SETTING_PREFIX = "run.";
+
+    private final Map<TrafficMix.Endpoint, Histogram> histograms = new EnumMap<>(TrafficMix.Endpoint.class);
+    private final Map<TrafficMix.Endpoint, LongAdder> failures = new EnumMap<>(TrafficMix.Endpoint.class);
+
+    public LatencyReport() {
+        for (TrafficMix.Endpoint endpoint : TrafficMix.Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            failures.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void record(TrafficMix.Endpoint endpoint, long latencyNanos, boolean failed) {
+        histograms.get(endpoint).recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (failed) {
+            failures.get(endpoint).increment();
+        }
+    }
+
+    public void print() {
+        System.out.printf("%-12s %9s %9s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "failed", "p50 us", "p99 us", "p999 us", "max us");
+        histograms.forEach((endpoint, histogram) -> {
+            if (histogram.getTotalCount() > 0) {
+                System.out.printf("%-12s %9d %9d %10d %10d %10d %10d%n", endpoint.name().toLowerCase(),
+                        histogram.getTotalCount(), failures.get(endpoint).sum(),
+                        histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+                        histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+            }
+        });
+    }
+
+    public void writeBaseline(Path path, Map<String, String> settings) throws IOException {
+        Properties baseline = new Properties();
+        settings.forEach((name, value) -> baseline.setProperty(SETTING_PREFIX + name, value));
+        histograms.forEach((endpoint, histogram) -> {
+            for (int i = 0; i < PERCENTILES.length && histogram.getTotalCount() > 0; i++) {
+                baseline.setProperty(key(endpoint, i), String.valueOf(histogram.getValueAtPercentile(PERCENTILES[i])));
+            }
+        });
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            baseline.store(writer, "Load test baseline, latencies in microseconds");
+        }
+    }
+
+    /**
+     * Percentiles that exceed the baseline by more than {@code tolerance} (relative) and
+     * {@code minDeltaMicros} (absolute), as printable lines.
+     */
+    public List<String> compare(Path path, double tolerance, long minDeltaMicros) throws IOException {
+        Properties baseline = load(path);
+        List<String> regressions = new ArrayList<>();
+        histograms.forEach((endpoint, histogram) -> {
+            for (int i = 0; i < PERCENTILES.length && histogram.getTotalCount() > 0; i++) {
+                String expected = baseline.getProperty(key(endpoint, i));
+                if (expected == null) {
+                    continue;
+                }
+                long before = Long.parseLong(expected);
+                long now = histogram.getValueAtPercentile(PERCENTILES[i]);
+                if (now > before * (1 + tolerance) && now - before > minDeltaMicros) {
+                    regressions.add(String.format("%s %s: %d us -> %d us", endpoint.name().toLowerCase(),
+                            LABELS[i], before, now));
+                }
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * Settings of this run that the baseline was not recorded with, as printable lines;
+     * a baseline without a setting was recorded before settings were stored.
+     */
+    public static List<String> mismatchedSettings(Path path, Map<String, String> settings) throws IOException {
+        Properties baseline = load(path);
+        List<String> mismatched = new ArrayList<>();
+        settings.forEach((name, value) -> {
+            String recorded = baseline.getProperty(SETTING_PREFIX + name);
+            if (!value.equals(recorded)) {
+                mismatched.add(String.format("%s: baseline %s, this run %s", name,
+                        recorded == null ? "unknown" : recorded, value));
+            }
+        });
+        return mismatched;
+    }
+
+    private static Properties load(Path path) throws IOException {
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            baseline.load(reader);
+        }
+        return baseline;
+    }
+
+    private static String key(TrafficMix.Endpoint endpoint, int percentile) {
+        return endpoint.name().toLowerCase() + "." + LABELS[percentile] + "_us";
+    }
+}
@@ -0,0 +1,194 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.EcommerceApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator. Boots the application in this JVM, seeds products, then
+ * sends requests of the configured mix at a fixed arrival rate whether or not earlier
+ * ones have completed. Latency is measured from each request's scheduled start, so a
+ * stalled server shows up in the percentiles instead of slowing the generator down
+ * (no coordinated omission). Requests still unanswered 30 seconds after the last one was
+ * sent are counted as failures at the latency they had reached. Run from the project root:
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt -Dmdep.includeScope=test
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     com.ecommerce.loadtest.LoadTest --profile=mock --rate=500 --duration=60 \
+ *     --mix=browse=30,search=25,category=20,product=20,admin_write=5 \
+ *     --baseline=loadtest/baseline-mock.properties [--write-baseline]
+ * </pre>
+ *
+ * <p>Exits with status 1 when a percentile regresses beyond {@code --tolerance} (relative)
+ * and {@code --min-delta-us} (absolute) against the baseline, and with status 2, before
+ * booting, when the rate, duration or warmup differ from those the baseline was recorded
+ * with. Record baselines below
+ * saturation: a baseline whose percentiles are dominated by queueing only hides later
+ * regressions. HdrHistogram comes in through Micrometer.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String profile = options.getOrDefault("profile", "mock");
+        int rate = Integer.parseInt(options.getOrDefault("rate", "500"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "15"));
+        int seed = Integer.parseInt(options.getOrDefault("seed", "200"));
+        TrafficMix mix = new TrafficMix(options.getOrDefault("mix",
+                "browse=30,search=25,category=20,product=20,admin_write=5"));
+        Path baseline = Path.of(options.getOrDefault("baseline", "loadtest/baseline-" + profile + ".properties"));
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("rate", String.valueOf(rate));
+        settings.put("duration", String.valueOf(duration));
+        settings.put("warmup", String.valueOf(warmup));
+        if (!options.containsKey("write-baseline") && Files.exists(baseline)) {
+            List<String> mismatched = LatencyReport.mismatchedSettings(baseline, settings);
+            if (!mismatched.isEmpty()) {
+                mismatched.forEach(setting -> System.out.println("NOT COMPARABLE " + setting));
+                System.out.println("Run with the baseline's settings or re-record it with --write-baseline");
+                System.exit(2);
+            }
+        }
+
+        List<String> appArgs = new ArrayList<>(List.of("--server.port=0", "--logging.level.root=WARN",
+                "--logging.level.org.springframework=WARN", "--logging.level.com.ecommerce=WARN",
+                "--spring.jpa.show-sql=false"));
+        if (!"h2".equals(profile)) {
+            appArgs.add("--spring.profiles.active=" + profile);
+        }
+        try (ConfigurableApplicationContext context =
+                     SpringApplication.run(EcommerceApplication.class, appArgs.toArray(String[]::new))) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            seedProducts(client, baseUrl, seed);
+            List<Long> productIds = ids(client, baseUrl + "/api/catalog", "id");
+            List<Long> categoryIds = ids(client, baseUrl + "/api/catalog", "categories");
+            if (categoryIds.isEmpty()) {
+                categoryIds = List.of(1L);
+            }
+            System.out.printf("profile=%s rate=%d/s duration=%ds products=%d categories=%d%n",
+                    profile, rate, duration, productIds.size(), categoryIds.size());
+
+            run(client, baseUrl, mix, rate, warmup, productIds, categoryIds, null);
+            LatencyReport report = new LatencyReport();
+            run(client, baseUrl, mix, rate, duration, productIds, categoryIds, report);
+            report.print();
+
+            if (options.containsKey("write-baseline")) {
+                report.writeBaseline(baseline, settings);
+                System.out.println("Wrote baseline " + baseline);
+            } else if (Files.exists(baseline)) {
+                List<String> regressions = report.compare(baseline,
+                        Double.parseDouble(options.getOrDefault("tolerance", "0.25")),
+                        Long.parseLong(options.getOrDefault("min-delta-us", "1000")));
+                regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+                System.out.println(regressions.isEmpty() ? "No regressions against " + baseline : "");
+                if (!regressions.isEmpty()) {
+                    System.exit(1);
+                }
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void run(HttpClient client, String baseUrl, TrafficMix mix, int rate, int seconds,
+                            List<Long> productIds, List<Long> categoryIds, LatencyReport report)
+            throws InterruptedException {
+        Random random = new Random(42);
+        Map<Long, InFlight> inFlight = new ConcurrentHashMap<>();
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = (long) rate * seconds;
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long scheduled = start + i * interval;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            TrafficMix.Endpoint endpoint = mix.next(random);
+            HttpRequest request = TrafficMix.request(endpoint, baseUrl, random, productIds, categoryIds);
+            long id = i;
+            inFlight.put(id, new InFlight(endpoint, scheduled));
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                if (inFlight.remove(id) != null && report != null) {
+                    report.record(endpoint, System.nanoTime() - scheduled, error != null || response.statusCode() >= 500);
+                }
+            });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!inFlight.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // Whatever is still outstanding is the slowest tail; dropping it would flatter a saturated run
+        long now = System.nanoTime();
+        inFlight.forEach((id, request) -> {
+            if (inFlight.remove(id) != null && report != null) {
+                report.record(request.endpoint(), now - request.scheduled(), true);
+            }
+        });
+    }
+
+    private record InFlight(TrafficMix.Endpoint endpoint, long scheduled) {
+    }
+
+    private static void seedProducts(HttpClient client, String baseUrl, int count)
+            throws IOException, InterruptedException {
+        String[] names = { "Phone", "Laptop", "Wireless Speaker", "Cotton Shirt", "Travel Guide", "Ceramic Vase" };
+        for (int i = 0; i < count; i++) {
+            String body = String.format(Locale.ROOT, "{\"name\":\"%s %d\",\"description\":\"Seeded %s model %d\","
+                            + "\"basePrice\":%d.99,\"currentPrice\":%d.49,\"stockQuantity\":%d,\"status\":\"ACTIVE\"}",
+                    names[i % names.length], i, names[i % names.length].toLowerCase(), i, 20 + i % 900, 15 + i % 900,
+                    i % 300);
+            client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/products"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    private static List<Long> ids(HttpClient client, String url, String field) throws IOException, InterruptedException {
+        JsonNode products = new ObjectMapper().readTree(client.send(HttpRequest.newBuilder(URI.create(url)).build(),
+                HttpResponse.BodyHandlers.ofString()).body());
+        Set<Long> ids = new TreeSet<>();
+        for (JsonNode product : products) {
+            if ("id".equals(field)) {
+                ids.add(product.get("id").asLong());
+            } else {
+                product.path(field).forEach(category -> ids.add(category.get("id").asLong()));
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int equals = option.indexOf('=');
+            options.put(equals < 0 ? option : option.substring(0, equals), equals < 0 ? "" : option.substring(equals + 1));
+        }
+        return options;
+    }
+}
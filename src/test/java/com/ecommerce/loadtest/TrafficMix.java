@@ -0,0 +1,72 @@
+package com.ecommerce.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted choice of endpoints, parsed from {@code browse=30,search=25,...}.
+ */
+public class TrafficMix {
+    private static final String[] KEYWORDS = { "phone", "laptop", "wireless", "cotton", "guide", "vase", "smart" };
+    private static final String[] TYPOS = { "phnoe", "laptpo", "wireles", "coton", "giude" };
+
+    public enum Endpoint {
+        BROWSE, SEARCH, CATEGORY, PRODUCT, ADMIN_WRITE
+    }
+
+    private final Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+    private final int totalWeight;
+
+    public TrafficMix(String spec) {
+        int total = 0;
+        for (String part : spec.split(",")) {
+            String[] weight = part.trim().split("=");
+            Endpoint endpoint = Endpoint.valueOf(weight[0].trim().toUpperCase().replace('-', '_'));
+            int value = Integer.parseInt(weight[1].trim());
+            weights.put(endpoint, value);
+            total += value;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Traffic mix has no weight: " + spec);
+        }
+        this.totalWeight = total;
+    }
+
+    public Endpoint next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> weight : weights.entrySet()) {
+            pick -= weight.getValue();
+            if (pick < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    public static HttpRequest request(Endpoint endpoint, String baseUrl, Random random,
+                                      List<Long> productIds, List<Long> categoryIds) {
+        String path = switch (endpoint) {
+            case BROWSE -> "/api/catalog/browse?keyword=" + pick(KEYWORDS, random)
+                    + "&maxPrice=" + (50 + random.nextInt(1500)) + "&sortBy=price_asc";
+            case SEARCH -> random.nextInt(4) == 0
+                    ? "/api/catalog/search?mode=FUZZY&keyword=" + pick(TYPOS, random)
+                    : "/api/catalog/search?keyword=" + pick(KEYWORDS, random);
+            case CATEGORY -> "/api/catalog/category/" + categoryIds.get(random.nextInt(categoryIds.size()));
+            case PRODUCT, ADMIN_WRITE -> "/api/" + (endpoint == Endpoint.ADMIN_WRITE ? "admin/" : "")
+                    + "products/" + productIds.get(random.nextInt(productIds.size()))
+                    + (endpoint == Endpoint.ADMIN_WRITE ? "/stock?quantity=" + random.nextInt(500) : "");
+        };
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        return endpoint == Endpoint.ADMIN_WRITE
+                ? request.method("PATCH", HttpRequest.BodyPublishers.noBody()).build()
+                : request.GET().build();
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}